@@ -2,8 +2,8 @@ package com.example.integrationservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -12,7 +12,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * Equivalent to MuleSoft Application - Entry point for the integration service
  */
 @SpringBootApplication
-@EnableRetry  // Enable @Retryable annotation support for error handling
+@EnableScheduling  // Background jobs, e.g. the outbox relay
 public class IntegrationServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,345 @@
+package com.example.integrationservice.cache;
+
+import com.example.integrationservice.exception.CustomerNotFoundException;
+import com.example.integrationservice.exception.UpstreamUnavailableException;
+import com.example.integrationservice.model.CustomerResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of upstream customers
+ * Equivalent to MuleSoft Cache Scope / Object Store with TTL
+ *
+ * Sits in front of ExternalApiClient: a hit skips the upstream round trip entirely.
+ * Entries are the projected CustomerResponse, so a hit also skips decoding and mapping;
+ * processedAt is therefore the time the entry was loaded from the upstream.
+ * Backed by Caffeine (W-TinyLFU eviction, size-bounded, expire-after-write).
+ * Hit, miss and eviction counters are published as cache.gets / cache.evictions
+ * with tag cache=customers on /actuator/metrics. A hit is a lookup answered from the
+ * cache (fresh, or stale inside the revalidation window); copies only kept as an
+ * unavailable-upstream fallback count as misses, since the request still goes upstream.
+ *
+ * Entry lifetime (HTTP Cache-Control semantics):
+ * - younger than ttl: fresh, served as-is
+ * - up to stale-while-revalidate past ttl: served immediately while one background call
+ *   refreshes it (customer.cache.revalidations{result})
+ * - up to stale-ttl: only served when the upstream is unavailable (circuit open / bulkhead
+ *   full) instead of failing the request (customer.cache.stale.served)
+ *
+ * A 404 is remembered for negative-ttl: repeated lookups of a missing ID fail with
+ * CustomerNotFoundException without calling the upstream (customer.cache.negative.hits).
+ *
+ * Behind this local (L1) tier sits an optional SharedCustomerCache (L2) shared by all
+ * replicas: consulted on an L1 miss, written through on every upstream load, so the upstream
+ * sees one miss per customer for the whole deployment rather than one per replica
+ * (customer.cache.shared.gets{result=hit|miss|error}).
+ */
+@Slf4j
+@Component
+public class CustomerCache {
+
+    public static final String CACHE_NAME = "customers";
+
+    private final boolean enabled;
+    private final boolean negativeCaching;
+    private final long ttlNanos;
+    private final long revalidateNanos;
+    private final Cache<Long, CachedCustomer> cache;
+    private final Cache<Long, Boolean> notFound;
+    private final Set<Long> revalidating = ConcurrentHashMap.newKeySet();
+    private final ConcurrentStatsCounter stats = new ConcurrentStatsCounter();
+    private final Counter staleServed;
+    private final Counter negativeHits;
+    private final SharedCustomerCache sharedCache;
+    private final Duration sharedTimeout;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Cache without stale-while-revalidate or negative caching: entries are fresh for ttl,
+     * then only kept as an unavailable-upstream fallback
+     */
+    public CustomerCache(boolean enabled, long maxSize, Duration ttl, Duration staleTtl, MeterRegistry meterRegistry) {
+        this(enabled, maxSize, ttl, Duration.ZERO, staleTtl, Duration.ZERO, meterRegistry);
+    }
+
+    /**
+     * L1-only cache
+     */
+    public CustomerCache(boolean enabled, long maxSize, Duration ttl, Duration staleWhileRevalidate, Duration staleTtl,
+                         Duration negativeTtl, MeterRegistry meterRegistry) {
+        this(enabled, maxSize, ttl, staleWhileRevalidate, staleTtl, negativeTtl, SharedCustomerCache.NONE,
+                Duration.ofMillis(100), meterRegistry);
+    }
+
+    @Autowired
+    public CustomerCache(
+            @Value("${integration.cache.enabled:true}") boolean enabled,
+            @Value("${integration.cache.max-size:10000}") long maxSize,
+            @Value("${integration.cache.ttl:5m}") Duration ttl,
+            @Value("${integration.cache.stale-while-revalidate:30m}") Duration staleWhileRevalidate,
+            @Value("${integration.cache.stale-ttl:1h}") Duration staleTtl,
+            @Value("${integration.cache.negative-ttl:30s}") Duration negativeTtl,
+            SharedCustomerCache sharedCache,
+            @Value("${integration.cache.shared.timeout:100ms}") Duration sharedTimeout,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.sharedCache = sharedCache;
+        this.sharedTimeout = sharedTimeout;
+        this.negativeCaching = !negativeTtl.isZero();
+        this.ttlNanos = ttl.toNanos();
+        this.revalidateNanos = staleWhileRevalidate.toNanos();
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(max(staleTtl, ttl.plus(staleWhileRevalidate)))
+                .recordStats(() -> stats)
+                .build();
+        this.notFound = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+        this.staleServed = Counter.builder("customer.cache.stale.served")
+                .description("Stale customers served because the external API was unavailable")
+                .register(meterRegistry);
+        this.negativeHits = Counter.builder("customer.cache.negative.hits")
+                .description("Lookups answered not-found from the negative cache, without an upstream call")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Return the cached customer, or load it with the blocking loader and cache the result
+     *
+     * The loader runs outside the cache's internal locks, so a slow upstream call never
+     * blocks lookups of other IDs. A stale entry is returned at once and revalidated on
+     * a bounded-elastic thread.
+     */
+    public CustomerResponse get(Long customerId, Function<Long, CustomerResponse> loader) {
+        if (!enabled) {
+            return loader.apply(customerId);
+        }
+
+        rejectKnownMissing(customerId);
+        CachedCustomer cached = lookup(customerId);
+        if (served(cached != null && isServable(customerId, cached, () -> Mono.fromCallable(() -> loader.apply(customerId))
+                .subscribeOn(Schedulers.boundedElastic())))) {
+            return cached.customer();
+        }
+
+        try {
+            CustomerResponse loaded = sharedCache == SharedCustomerCache.NONE ? null : getShared(customerId).block();
+            if (loaded == null) {
+                loaded = loader.apply(customerId);
+                putShared(customerId, loaded);
+            }
+            if (loaded != null) {
+                put(customerId, loaded);
+            }
+            return loaded;
+        } catch (WebClientResponseException.NotFound e) {
+            throw rememberNotFound(customerId, e);
+        } catch (UpstreamUnavailableException e) {
+            return staleOrThrow(customerId, cached, e);
+        }
+    }
+
+    /**
+     * Reactive variant of {@link #get(Long, Function)}
+     */
+    public Mono<CustomerResponse> getAsync(Long customerId, Function<Long, Mono<CustomerResponse>> loader) {
+        if (!enabled) {
+            return loader.apply(customerId);
+        }
+
+        return Mono.defer(() -> {
+            rejectKnownMissing(customerId);
+            CachedCustomer cached = lookup(customerId);
+            if (served(cached != null && isServable(customerId, cached, () -> loader.apply(customerId)))) {
+                return Mono.just(cached.customer());
+            }
+            return getShared(customerId)
+                    .switchIfEmpty(Mono.defer(() -> loader.apply(customerId))
+                            .doOnNext(loaded -> putShared(customerId, loaded)))
+                    .doOnNext(loaded -> put(customerId, loaded))
+                    .onErrorMap(WebClientResponseException.NotFound.class, e -> rememberNotFound(customerId, e))
+                    .onErrorResume(UpstreamUnavailableException.class,
+                            e -> Mono.fromCallable(() -> staleOrThrow(customerId, cached, e)));
+        });
+    }
+
+    /**
+     * Drop the customer from this replica (L1 and negative cache)
+     */
+    public void invalidate(Long customerId) {
+        cache.invalidate(customerId);
+        notFound.invalidate(customerId);
+    }
+
+    /**
+     * Entry lookup without Caffeine's own hit/miss recording; see {@link #served(boolean)}
+     */
+    private CachedCustomer lookup(Long customerId) {
+        return cache.asMap().get(customerId);
+    }
+
+    /**
+     * Record the lookup as a hit only when the cached copy is actually served
+     */
+    private boolean served(boolean servable) {
+        if (servable) {
+            stats.recordHits(1);
+        } else {
+            stats.recordMisses(1);
+        }
+        return servable;
+    }
+
+    /**
+     * Drop the customer from the shared tier; other replicas' L1 copies are dropped when
+     * they see the invalidation on the topic
+     */
+    public Mono<Void> evictShared(Long customerId) {
+        return sharedCache.evict(customerId)
+                .timeout(sharedTimeout);
+    }
+
+    /**
+     * Fresh entries are served; stale ones too while inside the revalidation window, with
+     * at most one background reload per customer in flight
+     */
+    private boolean isServable(Long customerId, CachedCustomer cached, Supplier<Mono<CustomerResponse>> reload) {
+        long age = System.nanoTime() - cached.loadedAt();
+        if (age < ttlNanos) {
+            log.debug("⚡ [MuleSoft Cache Scope] Cache hit for customer {}", customerId);
+            return true;
+        }
+        if (age >= ttlNanos + revalidateNanos) {
+            return false;
+        }
+
+        log.debug("⚡ [MuleSoft Cache Scope] Serving stale customer {} while revalidating", customerId);
+        if (revalidating.add(customerId)) {
+            Mono.defer(reload)
+                    .doFinally(signal -> revalidating.remove(customerId))
+                    .subscribe(
+                            loaded -> {
+                                put(customerId, loaded);
+                                putShared(customerId, loaded);
+                                countRevalidation("success");
+                            },
+                            e -> onRevalidationError(customerId, e));
+        }
+        return true;
+    }
+
+    private void onRevalidationError(Long customerId, Throwable e) {
+        if (e instanceof WebClientResponseException.NotFound) {
+            // Deleted upstream: stop serving the old copy
+            cache.invalidate(customerId);
+            rememberNotFound(customerId, (WebClientResponseException.NotFound) e);
+            countRevalidation("not_found");
+        } else {
+            // Keep serving the stale copy; the next request past ttl tries again
+            countRevalidation("error");
+            log.debug("⚡ [MuleSoft Cache Scope] Revalidation of customer {} failed: {}", customerId, e.getMessage());
+        }
+    }
+
+    /**
+     * Shared-tier lookup bounded by the shared timeout; an error or timeout counts as a miss
+     */
+    private Mono<CustomerResponse> getShared(Long customerId) {
+        if (sharedCache == SharedCustomerCache.NONE) {
+            return Mono.empty();
+        }
+        return sharedCache.get(customerId)
+                .timeout(sharedTimeout)
+                .doOnNext(shared -> countShared("hit"))
+                .switchIfEmpty(Mono.fromRunnable(() -> countShared("miss")))
+                .onErrorResume(e -> {
+                    countShared("error");
+                    log.debug("⚡ [MuleSoft Cache Scope] Shared cache lookup for customer {} failed: {}",
+                            customerId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Write-through to the shared tier, in the background
+     */
+    private void putShared(Long customerId, CustomerResponse customer) {
+        if (customer == null || sharedCache == SharedCustomerCache.NONE) {
+            return;
+        }
+        sharedCache.put(customerId, customer)
+                .timeout(sharedTimeout)
+                .subscribe(null, e -> countShared("error"));
+    }
+
+    private void countShared(String result) {
+        meterRegistry.counter("customer.cache.shared.gets", "result", result).increment();
+    }
+
+    private void countRevalidation(String result) {
+        meterRegistry.counter("customer.cache.revalidations", "result", result).increment();
+    }
+
+    private void rejectKnownMissing(Long customerId) {
+        if (notFound.getIfPresent(customerId) != null) {
+            negativeHits.increment();
+            throw new CustomerNotFoundException(customerId, null);
+        }
+    }
+
+    private CustomerNotFoundException rememberNotFound(Long customerId, WebClientResponseException.NotFound e) {
+        if (negativeCaching) {
+            notFound.put(customerId, Boolean.TRUE);
+        }
+        return new CustomerNotFoundException(customerId, e);
+    }
+
+    private void put(Long customerId, CustomerResponse customer) {
+        cache.put(customerId, new CachedCustomer(customer, System.nanoTime()));
+        notFound.invalidate(customerId);
+    }
+
+    /**
+     * Fallback for an unavailable upstream: last known copy, or the original fast-fail error
+     */
+    private CustomerResponse staleOrThrow(Long customerId, CachedCustomer stale, UpstreamUnavailableException e) {
+        if (stale == null) {
+            throw e;
+        }
+        staleServed.increment();
+        log.warn("🕰️ [MuleSoft Cache Scope] Upstream unavailable, serving stale customer {}", customerId);
+        return stale.customer();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private record CachedCustomer(CustomerResponse customer, long loadedAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.integrationservice.cache;
+
+import com.example.integrationservice.config.KafkaConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Cross-replica L1 invalidation from the customer-events topic
+ * Equivalent to MuleSoft Object Store invalidation broadcast to every worker
+ *
+ * Tombstones on the topic (CustomerEventProducer.publishTombstone) drop the customer from
+ * this replica's CustomerCache. Each replica consumes under its own throwaway group, from
+ * the latest offset and without committing, so every replica sees every tombstone; values
+ * stay raw bytes and regular events are skipped without deserializing them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerCacheInvalidationListener {
+
+    private final CustomerCache customerCache;
+
+    @KafkaListener(
+            id = "customerCacheInvalidation",
+            topics = KafkaConfig.CUSTOMER_EVENTS_TOPIC,
+            groupId = "integration-service-cache-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "customerStoreListenerContainerFactory",
+            clientIdPrefix = "customer-cache-invalidation",
+            autoStartup = "${integration.cache.invalidation.enabled:true}",
+            properties = ConsumerConfig.AUTO_OFFSET_RESET_CONFIG + "=latest")
+    public void onEvents(List<ConsumerRecord<String, byte[]>> records) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            if (record.value() == null && record.key() != null) {
+                try {
+                    customerCache.invalidate(Long.parseLong(record.key()));
+                    log.debug("⚡ [MuleSoft Cache Scope] Invalidated customer {} on tombstone", record.key());
+                } catch (NumberFormatException e) {
+                    log.warn("⚡ [MuleSoft Cache Scope] Ignoring tombstone with non-numeric key {}", record.key());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.integrationservice.cache;
+
+import com.example.integrationservice.model.CustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Embedded stand-in for the shared cache tier, for tests and single-node runs
+ *
+ * Entries are kept as serialized JSON with a TTL, like the Redis tier, so callers always
+ * get a fresh copy and serialization problems show up without a Redis server. Share one
+ * instance between several CustomerCache instances to simulate replicas.
+ */
+public class InMemorySharedCustomerCache implements SharedCustomerCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, byte[]> entries;
+
+    public InMemorySharedCustomerCache(ObjectMapper objectMapper, Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Mono<CustomerResponse> get(Long customerId) {
+        return Mono.justOrEmpty(entries.getIfPresent(SharedCustomerCache.key(customerId)))
+                .map(this::read);
+    }
+
+    @Override
+    public Mono<Void> put(Long customerId, CustomerResponse customer) {
+        return Mono.fromRunnable(() -> entries.put(SharedCustomerCache.key(customerId), write(customer)));
+    }
+
+    @Override
+    public Mono<Void> evict(Long customerId) {
+        return Mono.fromRunnable(() -> entries.invalidate(SharedCustomerCache.key(customerId)));
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private CustomerResponse read(byte[] json) {
+        try {
+            return objectMapper.readValue(json, CustomerResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt shared cache entry", e);
+        }
+    }
+
+    private byte[] write(CustomerResponse customer) {
+        try {
+            return objectMapper.writeValueAsBytes(customer);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot serialize customer " + customer.getCustomerId(), e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.integrationservice.cache;
+
+import com.example.integrationservice.model.CustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Shared cache tier on any Redis-protocol server (Redis, Valkey, KeyDB, Dragonfly)
+ *
+ * One key per customer ("customer:{id}") holding the upstream JSON, written with SETEX so
+ * the server expires it after the shared TTL. Uses Lettuce's reactive commands over a
+ * single multiplexed connection.
+ */
+public class RedisSharedCustomerCache implements SharedCustomerCache {
+
+    private final RedisReactiveCommands<String, byte[]> redis;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+
+    public RedisSharedCustomerCache(RedisReactiveCommands<String, byte[]> redis, ObjectMapper objectMapper,
+                                    Duration ttl) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = Math.max(1, ttl.toSeconds());
+    }
+
+    @Override
+    public Mono<CustomerResponse> get(Long customerId) {
+        return redis.get(SharedCustomerCache.key(customerId))
+                .map(this::read);
+    }
+
+    @Override
+    public Mono<Void> put(Long customerId, CustomerResponse customer) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(customer))
+                .flatMap(json -> redis.setex(SharedCustomerCache.key(customerId), ttlSeconds, json))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> evict(Long customerId) {
+        return redis.del(SharedCustomerCache.key(customerId)).then();
+    }
+
+    private CustomerResponse read(byte[] json) {
+        try {
+            return objectMapper.readValue(json, CustomerResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt shared cache entry", e);
+        }
+    }
+}
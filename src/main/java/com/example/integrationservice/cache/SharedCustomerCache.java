@@ -0,0 +1,46 @@
+package com.example.integrationservice.cache;
+
+import com.example.integrationservice.model.CustomerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shared (L2) tier of the customer cache, visible to every replica
+ * Equivalent to a MuleSoft Object Store v2 shared across workers
+ *
+ * CustomerCache consults it on a local (L1) miss before calling the upstream, and writes
+ * every upstream load through to it, so a customer fetched by one replica is a hit for all
+ * of them. Implementations return empty for a miss; CustomerCache bounds each call with a
+ * timeout and treats errors as misses, so an unreachable L2 degrades to L1-only caching.
+ */
+public interface SharedCustomerCache {
+
+    /**
+     * No shared tier: every call is a miss and writes are dropped
+     */
+    SharedCustomerCache NONE = new SharedCustomerCache() {
+        @Override
+        public Mono<CustomerResponse> get(Long customerId) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> put(Long customerId, CustomerResponse customer) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> evict(Long customerId) {
+            return Mono.empty();
+        }
+    };
+
+    Mono<CustomerResponse> get(Long customerId);
+
+    Mono<Void> put(Long customerId, CustomerResponse customer);
+
+    Mono<Void> evict(Long customerId);
+
+    static String key(Long customerId) {
+        return "customer:" + customerId;
+    }
+}
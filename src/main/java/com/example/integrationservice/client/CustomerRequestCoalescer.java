@@ -0,0 +1,107 @@
+package com.example.integrationservice.client;
+
+import com.example.integrationservice.model.CustomerResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * In-flight request coalescing (single-flight) for upstream customer lookups
+ * Equivalent to MuleSoft Until-Successful with a shared Object Store lock, minus the polling
+ *
+ * While a lookup for an ID is pending, concurrent callers for the same ID attach to the
+ * pending future instead of issuing their own upstream call, and all receive the same
+ * result or error. The entry is removed as soon as the call completes, so this never
+ * serves stale data - it only deduplicates overlapping requests.
+ *
+ * Blocking and reactive callers share one in-flight map, so a blocking lookup can join
+ * a pending async lookup for the same ID and vice versa.
+ *
+ * Coalesced callers are counted in external.api.calls.coalesced, tagged by mode.
+ */
+@Slf4j
+@Component
+public class CustomerRequestCoalescer {
+
+    private final ConcurrentMap<Long, CompletableFuture<CustomerResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter blockingCoalesced;
+    private final Counter asyncCoalesced;
+
+    public CustomerRequestCoalescer(MeterRegistry meterRegistry) {
+        this.blockingCoalesced = coalescedCounter(meterRegistry, "blocking");
+        this.asyncCoalesced = coalescedCounter(meterRegistry, "async");
+    }
+
+    /**
+     * Run the blocking call, or wait for an identical call that is already in flight
+     */
+    public CustomerResponse coalesce(Long customerId, Supplier<CustomerResponse> call) {
+        CompletableFuture<CustomerResponse> pending = new CompletableFuture<>();
+        CompletableFuture<CustomerResponse> existing = inFlight.putIfAbsent(customerId, pending);
+
+        if (existing != null) {
+            blockingCoalesced.increment();
+            log.debug("🔗 [MuleSoft Connector] Joining in-flight request for customer {}", customerId);
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            CustomerResponse customer = call.get();
+            pending.complete(customer);
+            return customer;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(customerId, pending);
+        }
+    }
+
+    /**
+     * Subscribe to the reactive call, or share an identical call that is already in flight
+     *
+     * The shared upstream subscription is detached from any single caller, so one caller
+     * cancelling (e.g. client disconnect) does not cancel the lookup for the others.
+     */
+    public Mono<CustomerResponse> coalesceAsync(Long customerId, Supplier<Mono<CustomerResponse>> call) {
+        return Mono.defer(() -> {
+            CompletableFuture<CustomerResponse> pending = new CompletableFuture<>();
+            CompletableFuture<CustomerResponse> existing = inFlight.putIfAbsent(customerId, pending);
+
+            if (existing != null) {
+                asyncCoalesced.increment();
+                log.debug("🔗 [MuleSoft Connector - Async] Joining in-flight request for customer {}", customerId);
+                return Mono.fromFuture(existing, true);
+            }
+
+            call.get()
+                    .doFinally(signal -> inFlight.remove(customerId, pending))
+                    .subscribe(pending::complete, pending::completeExceptionally, () -> pending.complete(null));
+
+            return Mono.fromFuture(pending, true);
+        });
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("external.api.calls.coalesced")
+                .description("Upstream customer lookups served by joining an identical in-flight call")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.integrationservice.client;
 
-import com.example.integrationservice.model.Customer;
+import com.example.integrationservice.exception.UpstreamUnavailableException;
+import com.example.integrationservice.mapper.CustomerProjectionDecoder;
+import com.example.integrationservice.model.CustomerPage;
+import com.example.integrationservice.model.CustomerResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-
 /**
  * External API Client for fetching customer data
  * Equivalent to MuleSoft HTTP Request Connector
@@ -20,6 +25,10 @@ import java.time.Duration;
  * - HTTP Request Connector → WebClient
  * - Connection configuration → WebClientConfig
  * - Error propagation → WebClientResponseException handling
+ * - Reconnection strategy → UpstreamRetryPolicy (non-blocking, jittered backoff)
+ * - Circuit breaking / max concurrency → Resilience4j CircuitBreaker + Bulkhead (usersApi)
+ * - Duplicate concurrent requests → CustomerRequestCoalescer (single-flight)
+ * - Streaming DataWeave → CustomerProjectionDecoder (responses are projected, never bound to Customer)
  */
 @Slf4j
 @Component
@@ -27,6 +36,11 @@ import java.time.Duration;
 public class ExternalApiClient {
 
     private final WebClient webClient;
+    private final CustomerRequestCoalescer requestCoalescer;
+    private final UpstreamRetryPolicy retryPolicy;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final CustomerProjectionDecoder projectionDecoder;
 
     /**
      * Fetch customer by ID from external API
@@ -34,36 +48,32 @@ public class ExternalApiClient {
      * MuleSoft equivalent: HTTP Request operation with path parameters
      * - Path: /users/{id}
      * - Method: GET
-     * - Response timeout: 5 seconds
-     * - Error handling: Retry on transient failures
+     * - Response timeout: overall deadline across all attempts (external.api.retry.deadline)
+     * - Error handling: Retry on 5xx and timeouts via UpstreamRetryPolicy
+     * - Max concurrency: bounded by the usersApi bulkhead
+     * - Fail fast: UpstreamUnavailableException while the circuit breaker is open
+     * 
+     * Blocks the calling thread; cheap when that thread is virtual
+     * (spring.threads.virtual.enabled=true).
      * 
      * @param customerId Customer ID to fetch
-     * @return Customer object
+     * @return Customer projected straight into the response model (CustomerProjectionDecoder)
      */
-    @Retryable(
-            retryFor = {WebClientResponseException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
-    public Customer getCustomerById(Long customerId) {
-        log.info("🔌 [MuleSoft Connector] Fetching customer data for ID: {}", customerId);
+    public CustomerResponse getCustomerById(Long customerId) {
+        log.debug("🔌 [MuleSoft Connector] Fetching customer data for ID: {}", customerId);
         
         try {
-            Customer customer = webClient.get()
-                    .uri("/{id}", customerId)
-                    .retrieve()
-                    .bodyToMono(Customer.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
+            CustomerResponse customer = requestCoalescer.coalesce(customerId, () -> fetchCustomer(customerId).block());
             
-            log.info("✅ [MuleSoft Connector] Successfully fetched customer: {} {}", 
-                    customer.getFirstName(), customer.getLastName());
+            log.debug("✅ [MuleSoft Connector] Successfully fetched customer: {}", customer.getFullName());
             
             return customer;
         } catch (WebClientResponseException e) {
             log.error("❌ [MuleSoft Error Handler] HTTP {} error while fetching customer {}: {}", 
                     e.getStatusCode(), customerId, e.getMessage());
             throw e;
+        } catch (UpstreamUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❌ [MuleSoft Error Handler] Unexpected error while fetching customer {}: {}", 
                     customerId, e.getMessage());
@@ -73,18 +83,77 @@ public class ExternalApiClient {
 
     /**
      * Async version - returns Mono for reactive streams
+     * Concurrent subscribers for the same ID share one upstream call
      */
-    public Mono<Customer> getCustomerByIdAsync(Long customerId) {
-        log.info("🔌 [MuleSoft Connector - Async] Fetching customer data for ID: {}", customerId);
+    public Mono<CustomerResponse> getCustomerByIdAsync(Long customerId) {
+        log.debug("🔌 [MuleSoft Connector - Async] Fetching customer data for ID: {}", customerId);
         
-        return webClient.get()
-                .uri("/{id}", customerId)
-                .retrieve()
-                .bodyToMono(Customer.class)
-                .timeout(Duration.ofSeconds(5))
-                .doOnSuccess(customer -> log.info("✅ [MuleSoft Connector] Successfully fetched customer: {} {}", 
-                        customer.getFirstName(), customer.getLastName()))
+        return requestCoalescer.coalesceAsync(customerId, () -> fetchCustomer(customerId))
+                .doOnSuccess(customer -> log.debug("✅ [MuleSoft Connector] Successfully fetched customer: {}",
+                        customer.getFullName()))
                 .doOnError(e -> log.error("❌ [MuleSoft Error Handler] Error fetching customer {}: {}", 
                         customerId, e.getMessage()));
     }
+
+    /**
+     * Fetch one page of the upstream customer collection
+     *
+     * MuleSoft equivalent: HTTP Request operation with query parameters
+     * - Path: /users?limit={limit}&skip={skip}
+     * - Same retry, circuit breaker and bulkhead as single-customer lookups
+     * - Body is projected straight into CustomerResponse (CustomerProjectionDecoder),
+     *   so no Customer object graph is built per record
+     *
+     * @param skip Number of customers to skip
+     * @param limit Page size
+     * @return Mono emitting the page
+     */
+    public Mono<CustomerPage> getCustomerPage(int skip, int limit) {
+        log.debug("🔌 [MuleSoft Connector - Paged] Fetching customers {}..{}", skip, skip + limit - 1);
+
+        Mono<CustomerPage> attempt = webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("limit", limit)
+                        .queryParam("skip", skip)
+                        .build())
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(projectionDecoder::decodePage);
+
+        return protect(retryPolicy.apply(attempt, "customer page at skip " + skip), "customer page at skip " + skip);
+    }
+
+    /**
+     * Single logical upstream lookup: retried attempts inside the circuit breaker, inside the bulkhead
+     *
+     * The body is read as bytes and projected by CustomerProjectionDecoder, so the unused
+     * parts of the payload are skipped rather than bound to a Customer graph.
+     */
+    private Mono<CustomerResponse> fetchCustomer(Long customerId) {
+        Mono<CustomerResponse> attempt = webClient.get()
+                .uri("/{id}", customerId)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(projectionDecoder::decode);
+
+        return protect(retryPolicy.apply(attempt, customerId), "customer " + customerId);
+    }
+
+    /**
+     * Wrap a retried upstream call in the circuit breaker, then the bulkhead
+     *
+     * The bulkhead is outermost so rejected calls never count as breaker failures; the
+     * breaker sees the outcome and duration of the whole retried call.
+     */
+    private <T> Mono<T> protect(Mono<T> retriedCall, String subject) {
+        return retriedCall
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                        e -> {
+                            log.warn("⛔ [MuleSoft Error Handler] External API unavailable for {}: {}",
+                                    subject, e.getMessage());
+                            return new UpstreamUnavailableException("External API is temporarily unavailable", e);
+                        });
+    }
 }
@@ -0,0 +1,23 @@
+package com.example.integrationservice.client;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * Decides which external API errors count against the circuit breaker
+ *
+ * 4xx responses (e.g. 404 for an unknown customer) mean the upstream is healthy and
+ * answered correctly, so they must not trip the breaker. Everything else - 5xx,
+ * timeouts, connection failures - is recorded as a failure.
+ *
+ * Referenced by name from resilience4j.circuitbreaker.instances.usersApi.record-failure-predicate.
+ */
+public class UpstreamFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable error) {
+        return !(error instanceof WebClientResponseException responseException)
+                || !responseException.getStatusCode().is4xxClientError();
+    }
+}
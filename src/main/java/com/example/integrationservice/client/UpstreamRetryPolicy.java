@@ -0,0 +1,103 @@
+package com.example.integrationservice.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Retry policy shared by the blocking and reactive external API paths
+ * Equivalent to MuleSoft Until-Successful scope with a reconnection strategy
+ *
+ * - Retries are scheduled on Reactor timers, so no thread sleeps between attempts
+ * - Exponential backoff with jitter spreads retries from many callers over time
+ * - Only 5xx responses and timeouts are retried; 4xx (e.g. 404) fail immediately
+ * - Each request gets at most max-attempts tries, all inside one overall deadline
+ */
+@Slf4j
+@Component
+public class UpstreamRetryPolicy {
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final Duration attemptTimeout;
+    private final Duration deadline;
+    private final Counter retries;
+
+    public UpstreamRetryPolicy(
+            @Value("${external.api.retry.max-attempts:3}") int maxAttempts,
+            @Value("${external.api.retry.initial-backoff:200ms}") Duration initialBackoff,
+            @Value("${external.api.retry.max-backoff:2s}") Duration maxBackoff,
+            @Value("${external.api.retry.jitter:0.5}") double jitter,
+            @Value("${external.api.retry.attempt-timeout:2s}") Duration attemptTimeout,
+            @Value("${external.api.retry.deadline:5s}") Duration deadline,
+            MeterRegistry meterRegistry) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.attemptTimeout = attemptTimeout;
+        this.deadline = deadline;
+        this.retries = Counter.builder("external.api.retries")
+                .description("Retried external API attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Decorate a single upstream attempt with per-attempt timeout, retries and the overall deadline
+     *
+     * @param attempt Lazily subscribed upstream call; re-subscribed on each retry
+     * @param customerId Customer ID, for logging
+     * @return Mono failing with the last attempt's error once the budget or deadline is spent
+     */
+    public <T> Mono<T> apply(Mono<T> attempt, Long customerId) {
+        return apply(attempt, "customer " + customerId);
+    }
+
+    /**
+     * Same policy for calls that are not about a single customer (e.g. collection pages)
+     *
+     * @param subject What is being fetched, for logging
+     */
+    public <T> Mono<T> apply(Mono<T> attempt, String subject) {
+        return attempt
+                .timeout(attemptTimeout)
+                .retryWhen(Retry.backoff(maxAttempts - 1L, initialBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(jitter)
+                        .filter(UpstreamRetryPolicy::isRetryable)
+                        .doBeforeRetry(signal -> {
+                            retries.increment();
+                            log.warn("🔁 [MuleSoft Until-Successful] Retry {} for {} after: {}",
+                                    signal.totalRetries() + 1, subject, signal.failure().getMessage());
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(deadline);
+    }
+
+    /**
+     * Transient failures only: upstream 5xx responses and timeouts anywhere in the cause chain
+     */
+    static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof io.netty.channel.ConnectTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,28 +1,207 @@
 package com.example.integrationservice.config;
 
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.serialization.CustomerEventFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Kafka Configuration
  * Equivalent to MuleSoft Connector Configuration
  */
+@Slf4j
 @Configuration
 public class KafkaConfig {
 
     public static final String CUSTOMER_EVENTS_TOPIC = "customer-events";
 
+    @Value("${integration.kafka.producer.profile:RELIABLE}")
+    private KafkaProducerProfile producerProfile;
+
+    @Value("${integration.kafka.serialization:AVRO}")
+    private CustomerEventFormat eventFormat;
+
+    @Value("${integration.outbox.relay-max-block-ms:5000}")
+    private long outboxMaxBlockMs;
+
+    @Value("${integration.kafka.consumer.concurrency:3}")
+    private int consumerConcurrency;
+
+    @Value("${integration.store.max-poll-records:5000}")
+    private int storeMaxPollRecords;
+
     /**
      * Create Kafka topic if it doesn't exist
      * Equivalent to MuleSoft VM Queue or JMS Queue configuration
+     *
+     * Log-compacted and keyed by customer ID: the latest event per customer is retained
+     * indefinitely, so CustomerStore can be rebuilt from the topic alone. Only applies when
+     * the topic is created; an existing topic keeps its cleanup policy.
      */
     @Bean
     public NewTopic customerEventsTopic() {
         return TopicBuilder.name(CUSTOMER_EVENTS_TOPIC)
                 .partitions(3)
                 .replicas(1)
+                .compact()
                 .build();
     }
+
+    /**
+     * Producer factory for customer events, tuned by the selected producer profile
+     *
+     * Profile settings (linger.ms, batch.size, compression, acks, idempotence,
+     * max.in.flight) form the base; anything set under spring.kafka.producer.* wins.
+     * The value serializer always follows integration.kafka.serialization.
+     */
+    @Bean
+    public ProducerFactory<String, CustomerResponse> customerEventProducerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> config = new HashMap<>(producerProfile.settings());
+        config.putAll(kafkaProperties.buildProducerProperties(null));
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, eventFormat.serializerClass());
+
+        log.info("⚙️ [MuleSoft Connector Config] Kafka producer profile {} with {} events: {}",
+                producerProfile, eventFormat, producerProfile.settings());
+
+        return new DefaultKafkaProducerFactory<>(config);
+    }
+
+    /**
+     * Observation is enabled so each send gets a producer span and carries the trace context
+     * in the record headers
+     */
+    @Bean
+    public KafkaTemplate<String, CustomerResponse> kafkaTemplate(
+            ProducerFactory<String, CustomerResponse> customerEventProducerFactory) {
+        KafkaTemplate<String, CustomerResponse> kafkaTemplate = new KafkaTemplate<>(customerEventProducerFactory);
+        kafkaTemplate.setObservationEnabled(true);
+        return kafkaTemplate;
+    }
+
+    /**
+     * Producer factory for the outbox relay: same profile, but values are the record bytes
+     * already encoded by CustomerEventOutbox, so they are sent without re-serializing
+     *
+     * max.block.ms is bounded separately because the relay sends from the single scheduler
+     * thread: while the broker is unreachable, a send blocks on metadata for that long.
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> outboxProducerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> config = new HashMap<>(producerProfile.settings());
+        config.putAll(kafkaProperties.buildProducerProperties(null));
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, outboxMaxBlockMs);
+        config.put(ProducerConfig.CLIENT_ID_CONFIG, "customer-events-outbox");
+        return new DefaultKafkaProducerFactory<>(config);
+    }
+
+    /**
+     * Observed like the direct-path template; relay sends run on the scheduler thread, so each
+     * starts its own trace
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxKafkaTemplate(ProducerFactory<String, byte[]> outboxProducerFactory) {
+        KafkaTemplate<String, byte[]> kafkaTemplate = new KafkaTemplate<>(outboxProducerFactory);
+        kafkaTemplate.setObservationEnabled(true);
+        return kafkaTemplate;
+    }
+
+    /**
+     * Consumer factory for customer events
+     * Equivalent to MuleSoft Kafka Consumer Configuration
+     *
+     * Auto-commit is disabled: offsets are committed by the listener once a batch is handled.
+     * Kafka client metrics (including records-lag per partition) are bound to Micrometer.
+     */
+    @Bean
+    public ConsumerFactory<String, CustomerResponse> customerEventConsumerFactory(
+            KafkaProperties kafkaProperties, MeterRegistry meterRegistry) {
+        Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        DefaultKafkaConsumerFactory<String, CustomerResponse> factory = new DefaultKafkaConsumerFactory<>(config);
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    /**
+     * Batch listener container for customer events
+     *
+     * One consumer thread per partition by default (topic has 3 partitions); failed batches
+     * are retried with exponential backoff before the error handler logs and skips them.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CustomerResponse> customerEventBatchListenerContainerFactory(
+            ConsumerFactory<String, CustomerResponse> customerEventConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, CustomerResponse> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(customerEventConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(consumerConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(500L, 2.0);
+        backOff.setMaxElapsedTime(30_000L);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        return factory;
+    }
+
+    /**
+     * Consumer factory for the customer store replay
+     *
+     * Values are left as raw bytes and polls are large, so rebuilding the store from the
+     * compacted topic is bounded by fetch throughput rather than deserialization.
+     */
+    @Bean
+    public ConsumerFactory<String, byte[]> customerStoreConsumerFactory(
+            KafkaProperties kafkaProperties, MeterRegistry meterRegistry) {
+        Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, storeMaxPollRecords);
+        config.put(ConsumerConfig.CLIENT_ID_CONFIG, "customer-store");
+
+        DefaultKafkaConsumerFactory<String, byte[]> factory = new DefaultKafkaConsumerFactory<>(config);
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    /**
+     * Listener container for the customer store: one consumer over all partitions, no
+     * offset commits (manual ack mode, never acknowledged), and an idle event once caught up
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> customerStoreListenerContainerFactory(
+            ConsumerFactory<String, byte[]> customerStoreConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(customerStoreConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(1);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setIdleEventInterval(2_000L);
+        return factory;
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.integrationservice.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Resilience Configuration for the external users API
+ * Equivalent to MuleSoft reconnection strategy + flow max concurrency
+ *
+ * Instance settings live in application.yml under resilience4j.*.instances.usersApi;
+ * state, rejections and call metrics are exposed by the Resilience4j actuator endpoints
+ * (/actuator/circuitbreakers, /actuator/bulkheads) and resilience4j.* meters.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    public static final String USERS_API = "usersApi";
+
+    /**
+     * Opens on error rate or slow-call rate, then fails fast until the upstream recovers
+     */
+    @Bean
+    public CircuitBreaker usersApiCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return circuitBreakerRegistry.circuitBreaker(USERS_API);
+    }
+
+    /**
+     * Caps in-flight upstream calls across the blocking and reactive paths
+     */
+    @Bean
+    public Bulkhead usersApiBulkhead(BulkheadRegistry bulkheadRegistry) {
+        return bulkheadRegistry.bulkhead(USERS_API);
+    }
+}
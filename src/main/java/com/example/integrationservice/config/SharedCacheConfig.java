@@ -0,0 +1,67 @@
+package com.example.integrationservice.config;
+
+import com.example.integrationservice.cache.InMemorySharedCustomerCache;
+import com.example.integrationservice.cache.RedisSharedCustomerCache;
+import com.example.integrationservice.cache.SharedCustomerCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Shared (L2) Customer Cache Configuration
+ * Equivalent to MuleSoft Object Store v2 configuration
+ *
+ * integration.cache.shared.type selects the tier behind CustomerCache:
+ * - none: L1 only (default)
+ * - memory: embedded InMemorySharedCustomerCache, shared within this JVM only
+ * - redis: RedisSharedCustomerCache at integration.cache.shared.redis-uri, shared by all replicas
+ */
+@Slf4j
+@Configuration
+public class SharedCacheConfig {
+
+    @Value("${integration.cache.shared.ttl:5m}")
+    private Duration sharedTtl;
+
+    @Bean
+    @ConditionalOnProperty(name = "integration.cache.shared.type", havingValue = "none", matchIfMissing = true)
+    public SharedCustomerCache noSharedCustomerCache() {
+        return SharedCustomerCache.NONE;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "integration.cache.shared.type", havingValue = "memory")
+    public SharedCustomerCache inMemorySharedCustomerCache(ObjectMapper objectMapper) {
+        return new InMemorySharedCustomerCache(objectMapper, sharedTtl);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "integration.cache.shared.type", havingValue = "redis")
+    public RedisClient sharedCacheRedisClient(@Value("${integration.cache.shared.redis-uri}") String redisUri) {
+        return RedisClient.create(redisUri);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "integration.cache.shared.type", havingValue = "redis")
+    public StatefulRedisConnection<String, byte[]> sharedCacheRedisConnection(RedisClient sharedCacheRedisClient) {
+        return sharedCacheRedisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "integration.cache.shared.type", havingValue = "redis")
+    public SharedCustomerCache redisSharedCustomerCache(StatefulRedisConnection<String, byte[]> sharedCacheRedisConnection,
+                                                        ObjectMapper objectMapper) {
+        log.info("⚙️ [MuleSoft Object Store Config] Shared customer cache on Redis, TTL {}", sharedTtl);
+        return new RedisSharedCustomerCache(sharedCacheRedisConnection.reactive(), objectMapper, sharedTtl);
+    }
+}
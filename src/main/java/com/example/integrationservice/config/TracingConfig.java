@@ -0,0 +1,30 @@
+package com.example.integrationservice.config;
+
+import com.example.integrationservice.tracing.FileSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Tracing Configuration
+ * Equivalent to MuleSoft Anypoint Monitoring distributed tracing
+ *
+ * Spring Boot wires Micrometer Tracing to OpenTelemetry and creates spans for the HTTP
+ * listener, WebClient calls (WebClientConfig) and Kafka sends (KafkaConfig); W3C trace
+ * context travels in HTTP and Kafka record headers. Any SpanExporter bean is registered
+ * with the OpenTelemetry SDK, so this one writes spans to a local file.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "integration.tracing.file-exporter.enabled", havingValue = "true")
+    public SpanExporter fileSpanExporter(
+            @Value("${integration.tracing.file-exporter.path:./data/traces/spans.jsonl}") Path path) {
+        return new FileSpanExporter(path);
+    }
+}
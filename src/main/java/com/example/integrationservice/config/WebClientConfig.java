@@ -1,26 +1,137 @@
 package com.example.integrationservice.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebClient Configuration for external API calls
  * Equivalent to MuleSoft HTTP Request Connector Configuration
+ *
+ * Maps to MuleSoft concepts:
+ * - Connection pooling profile → Reactor Netty ConnectionProvider
+ * - Connection/response timeouts → HttpClient options
+ * - Pool metrics → reactor.netty.connection.provider.* meters on /actuator/metrics
+ * - Upstream status codes → external.api.responses{status} (one count per attempt)
+ * - Tracing → built from Spring Boot's WebClient.Builder, so every call gets a client span
+ *   and W3C traceparent headers (plus http.client.requests metrics)
  */
 @Configuration
 public class WebClientConfig {
 
+    private static final String POOL_NAME = "external-api";
+
     @Value("${external.api.base-url}")
     private String baseUrl;
 
+    @Value("${external.api.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${external.api.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${external.api.keep-alive:true}")
+    private boolean keepAlive;
+
+    @Value("${external.api.http2:false}")
+    private boolean http2;
+
+    @Value("${external.api.compression:true}")
+    private boolean compression;
+
+    @Value("${external.api.pool.max-connections:500}")
+    private int maxConnections;
+
+    @Value("${external.api.pool.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${external.api.pool.pending-acquire-timeout:2s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${external.api.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${external.api.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${external.api.pool.evict-in-background:30s}")
+    private Duration evictInBackground;
+
+    @Value("${external.api.pool.metrics:true}")
+    private boolean poolMetrics;
+
+    /**
+     * Dedicated connection pool for the external API
+     *
+     * MuleSoft equivalent: HTTP Request Configuration → Connection pooling profile
+     * - Pending acquires are bounded so pool exhaustion fails fast instead of queueing forever
+     * - Idle and lifetime eviction stop stale or load-balancer-reaped connections being reused
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider externalApiConnectionProvider() {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(poolMetrics)
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClient webClient(WebClient.Builder webClientBuilder, ConnectionProvider externalApiConnectionProvider,
+                               MeterRegistry meterRegistry) {
+        HttpClient httpClient = HttpClient.create(externalApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .keepAlive(keepAlive)
+                .responseTimeout(readTimeout)
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)))
+                .compress(compression);
+
+        if (http2) {
+            // HTTP/2 multiplexes requests over few connections; fall back to HTTP/1.1 if the server declines
+            httpClient = baseUrl.startsWith("https")
+                    ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure()
+                    : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        return webClientBuilder
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(countResponses(meterRegistry))
                 .defaultHeader("Content-Type", "application/json")
                 .defaultHeader("Accept", "application/json")
                 .build();
     }
+
+    /**
+     * Count every upstream attempt by HTTP status; IO_ERROR when no response arrived and
+     * CANCELLED when the attempt was abandoned (per-attempt timeout or caller gone)
+     */
+    private static ExchangeFilterFunction countResponses(MeterRegistry meterRegistry) {
+        return (request, next) -> next.exchange(request)
+                .doOnNext(response -> count(meterRegistry, String.valueOf(response.statusCode().value())))
+                .doOnError(e -> count(meterRegistry, "IO_ERROR"))
+                .doOnCancel(() -> count(meterRegistry, "CANCELLED"));
+    }
+
+    private static void count(MeterRegistry meterRegistry, String status) {
+        meterRegistry.counter("external.api.responses", "status", status).increment();
+    }
 }
@@ -0,0 +1,157 @@
+package com.example.integrationservice.consumer;
+
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.model.CustomerResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Batch consumer for the customer-events topic
+ * Equivalent to MuleSoft Kafka Listener (batch mode) with manual acknowledgement
+ *
+ * - Each poll is delivered as one batch (max.poll.records)
+ * - Records are grouped by partition; partitions are processed in parallel,
+ *   records within a partition strictly in offset order
+ * - Tombstones (null values) go to each handler's delete, between the events around them
+ * - Offsets are committed manually once every handler has processed the whole batch;
+ *   a failure leaves the batch uncommitted and the container's error handler redelivers it
+ * - Each replica consumes under its own throwaway group and seeks every assigned partition
+ *   to the beginning, so in-memory projections are rebuilt from the topic on every start
+ *   instead of resuming at a committed offset with empty state. Handlers therefore see
+ *   events again after a restart or reassignment and must apply them idempotently.
+ *
+ * Throughput and timing are exposed as customer.events.consumed and customer.events.batch;
+ * consumer lag comes from the Kafka client metrics (kafka.consumer.fetch.manager.records.lag*).
+ */
+@Slf4j
+@Component
+public class CustomerEventConsumer implements ConsumerSeekAware {
+
+    private final List<CustomerEventHandler> handlers;
+    private final ExecutorService partitionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter consumed;
+    private final Timer batchTimer;
+
+    public CustomerEventConsumer(List<CustomerEventHandler> handlers, MeterRegistry meterRegistry) {
+        this.handlers = handlers;
+        this.consumed = Counter.builder("customer.events.consumed")
+                .description("Customer events processed by all handlers and committed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("customer.events.batch")
+                .description("Time to process one consumed batch across all partitions")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        log.info("📥 [MuleSoft Kafka Listener] Customer event handlers: {}",
+                handlers.stream().map(CustomerEventHandler::name).toList());
+    }
+
+    @KafkaListener(
+            id = "customerEventConsumer",
+            topics = KafkaConfig.CUSTOMER_EVENTS_TOPIC,
+            containerFactory = "customerEventBatchListenerContainerFactory",
+            groupId = "integration-service-projections-#{T(java.util.UUID).randomUUID()}",
+            autoStartup = "${integration.kafka.consumer.enabled:true}",
+            properties = ConsumerConfig.AUTO_OFFSET_RESET_CONFIG + "=earliest")
+    public void consume(List<ConsumerRecord<String, CustomerResponse>> records, Acknowledgment acknowledgment) {
+        batchTimer.record(() -> processByPartition(records));
+        acknowledgment.acknowledge();
+        consumed.increment(records.size());
+
+        log.debug("📥 [MuleSoft Kafka Listener] Committed batch of {} customer events", records.size());
+    }
+
+    /**
+     * Replay from the start on every assignment, so projections never resume with lost state
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToBeginning(assignments.keySet());
+    }
+
+    private void processByPartition(List<ConsumerRecord<String, CustomerResponse>> records) {
+        Map<Integer, List<ConsumerRecord<String, CustomerResponse>>> byPartition = new LinkedHashMap<>();
+        for (ConsumerRecord<String, CustomerResponse> record : records) {
+            byPartition.computeIfAbsent(record.partition(), partition -> new ArrayList<>()).add(record);
+        }
+
+        if (byPartition.size() == 1) {
+            dispatch(byPartition.values().iterator().next());
+            return;
+        }
+
+        CompletableFuture<?>[] partitions = byPartition.values().stream()
+                .map(partition -> CompletableFuture.runAsync(() -> dispatch(partition), partitionExecutor))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(partitions).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Hand one partition's records to every handler: runs of events as one batch,
+     * each tombstone as a delete at its place in the run
+     */
+    private void dispatch(List<ConsumerRecord<String, CustomerResponse>> records) {
+        List<CustomerResponse> events = new ArrayList<>();
+        for (ConsumerRecord<String, CustomerResponse> record : records) {
+            if (record.value() != null) {
+                events.add(record.value());
+                continue;
+            }
+            handle(events);
+            events = new ArrayList<>();
+            Long customerId = customerId(record);
+            if (customerId != null) {
+                for (CustomerEventHandler handler : handlers) {
+                    handler.delete(customerId);
+                }
+            }
+        }
+        handle(events);
+    }
+
+    private void handle(List<CustomerResponse> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (CustomerEventHandler handler : handlers) {
+            handler.handle(events);
+        }
+    }
+
+    private static Long customerId(ConsumerRecord<String, CustomerResponse> tombstone) {
+        try {
+            return Long.valueOf(tombstone.key());
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ [MuleSoft Kafka Listener] Ignoring tombstone with non-numeric key '{}' at {}-{}@{}",
+                    tombstone.key(), tombstone.topic(), tombstone.partition(), tombstone.offset());
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partitionExecutor.shutdown();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.integrationservice.consumer;
+
+import com.example.integrationservice.model.CustomerResponse;
+
+import java.util.List;
+
+/**
+ * Downstream handler for consumed customer events
+ * Equivalent to a MuleSoft flow-ref invoked from a VM/Kafka listener
+ *
+ * Every Spring bean implementing this interface is invoked by CustomerEventConsumer.
+ * Each call receives the events of one partition in offset order; calls for different
+ * partitions may run concurrently, so implementations must be thread-safe. Throwing
+ * fails the batch, which is then redelivered.
+ *
+ * The topic is replayed from the beginning whenever the consumer starts or its partitions are
+ * reassigned, so handlers must tolerate seeing an event again (last write wins per customer).
+ *
+ * Tombstones (null values) are passed to delete, in offset order with the events around them.
+ */
+public interface CustomerEventHandler {
+
+    /**
+     * Handler name used in logs and metric tags
+     */
+    String name();
+
+    void handle(List<CustomerResponse> events);
+
+    /**
+     * Customer deleted upstream (tombstone on the topic); ignored by default
+     */
+    default void delete(Long customerId) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.integrationservice.consumer;
+
+import com.example.integrationservice.model.CustomerResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Example read-side projection: latest loyalty tier per customer, with counts per tier
+ * Equivalent to a MuleSoft Object Store updated from a queue listener
+ *
+ * Tier counts are maintained incrementally as events arrive (moved on a tier change,
+ * decremented on a tombstone), so a metrics scrape only reads counters. State is in memory
+ * only and is rebuilt from the compacted topic on start (see CustomerEventConsumer); a
+ * replayed event that does not change a customer's tier leaves the counts untouched.
+ * Counts are exposed as customer.projection.loyalty{tier}.
+ */
+@Component
+public class LoyaltyTierProjection implements CustomerEventHandler {
+
+    private final Map<Long, String> tierByCustomer = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> countsByTier = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public LoyaltyTierProjection(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String name() {
+        return "loyalty-tier-projection";
+    }
+
+    @Override
+    public void handle(List<CustomerResponse> events) {
+        for (CustomerResponse event : events) {
+            if (event.getCustomerId() != null && event.getLoyaltyScore() != null) {
+                String tier = event.getLoyaltyScore();
+                String previous = tierByCustomer.put(event.getCustomerId(), tier);
+                if (!tier.equals(previous)) {
+                    counter(tier).incrementAndGet();
+                    decrement(previous);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void delete(Long customerId) {
+        decrement(tierByCustomer.remove(customerId));
+    }
+
+    public long countByTier(String tier) {
+        AtomicLong count = countsByTier.get(tier);
+        return count == null ? 0 : count.get();
+    }
+
+    private void decrement(String tier) {
+        if (tier != null) {
+            counter(tier).decrementAndGet();
+        }
+    }
+
+    private AtomicLong counter(String tier) {
+        return countsByTier.computeIfAbsent(tier, this::registerGauge);
+    }
+
+    private AtomicLong registerGauge(String tier) {
+        AtomicLong count = new AtomicLong();
+        Gauge.builder("customer.projection.loyalty", count, AtomicLong::get)
+                .description("Customers per loyalty tier, from consumed customer events")
+                .tag("tier", tier)
+                .register(meterRegistry);
+        return count;
+    }
+}
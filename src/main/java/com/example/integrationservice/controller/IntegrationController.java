@@ -1,13 +1,21 @@
 package com.example.integrationservice.controller;
 
+import com.example.integrationservice.limit.AdaptiveConcurrencyLimiter;
+import com.example.integrationservice.limit.PriorityLane;
+import com.example.integrationservice.limit.PriorityLaneClassifier;
+import com.example.integrationservice.model.BatchCustomerResponse;
+import com.example.integrationservice.model.BulkSyncStatus;
 import com.example.integrationservice.model.CustomerResponse;
 import com.example.integrationservice.service.IntegrationService;
+import com.example.integrationservice.sync.CustomerBulkSyncJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,6 +35,9 @@ import java.util.Map;
 public class IntegrationController {
 
     private final IntegrationService integrationService;
+    private final CustomerBulkSyncJob customerBulkSyncJob;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final PriorityLaneClassifier priorityLaneClassifier;
 
     /**
      * Get customer by ID and process through integration flow
@@ -34,17 +45,27 @@ public class IntegrationController {
      * MuleSoft equivalent:
      * <http:listener path="/api/customer/{id}" method="GET"/>
      * 
+     * Admitted through the adaptive concurrency limit; a cache miss then calls upstream within
+     * the caller's priority lane budget. Over either, the request is rejected at once
+     * (ConcurrencyLimitExceededException).
+     * 
      * @param id Customer ID from path parameter
+     * @param priority X-Request-Priority header (interactive | bulk)
+     * @param apiKey X-Api-Key header; configured back-office keys are always bulk
      * @return Processed customer response
      */
     @GetMapping("/customer/{id}")
-    public ResponseEntity<CustomerResponse> getCustomer(@PathVariable("id") Long id) {
-        log.info("📨 [MuleSoft HTTP Listener] Received request for customer ID: {}", id);
+    public ResponseEntity<CustomerResponse> getCustomer(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = PriorityLaneClassifier.PRIORITY_HEADER, required = false) String priority,
+            @RequestHeader(value = PriorityLaneClassifier.API_KEY_HEADER, required = false) String apiKey) {
+        log.debug("📨 [MuleSoft HTTP Listener] Received request for customer ID: {}", id);
         
         try {
-            CustomerResponse response = integrationService.processCustomer(id);
+            PriorityLane lane = priorityLaneClassifier.classify(priority, apiKey);
+            CustomerResponse response = concurrencyLimiter.execute(() -> integrationService.processCustomer(id, lane));
             
-            log.info("📨 [MuleSoft HTTP Listener] Sending response with status 200 OK");
+            log.debug("📨 [MuleSoft HTTP Listener] Sending response with status 200 OK");
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -53,6 +74,98 @@ public class IntegrationController {
         }
     }
 
+    /**
+     * Get customer by ID through the non-blocking integration flow
+     *
+     * The servlet thread is released as soon as the Mono is returned; the response is
+     * written when the upstream call and the Kafka publish complete. The concurrency permit
+     * is held until then.
+     *
+     * MuleSoft equivalent:
+     * <http:listener path="/api/customer/{id}/async" method="GET"/> with a non-blocking flow
+     *
+     * @param id Customer ID from path parameter
+     * @param priority X-Request-Priority header (interactive | bulk)
+     * @param apiKey X-Api-Key header; configured back-office keys are always bulk
+     * @return Mono emitting the processed customer response
+     */
+    @GetMapping("/customer/{id}/async")
+    public Mono<ResponseEntity<CustomerResponse>> getCustomerAsync(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = PriorityLaneClassifier.PRIORITY_HEADER, required = false) String priority,
+            @RequestHeader(value = PriorityLaneClassifier.API_KEY_HEADER, required = false) String apiKey) {
+        log.debug("📨 [MuleSoft HTTP Listener - Async] Received request for customer ID: {}", id);
+
+        PriorityLane lane = priorityLaneClassifier.classify(priority, apiKey);
+        return concurrencyLimiter.execute(Mono.defer(() -> integrationService.processCustomerAsync(id, lane)))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .doOnSuccess(response -> log.debug("📨 [MuleSoft HTTP Listener - Async] Sending response with status {}",
+                        response.getStatusCode()))
+                .doOnError(e -> log.error("📨 [MuleSoft HTTP Listener - Async] Sending error response: {}", e.getMessage()));
+    }
+
+    /**
+     * Get many customers in one call
+     * 
+     * MuleSoft equivalent:
+     * <http:listener path="/api/customers" method="POST"/> feeding a Batch Job
+     * 
+     * Each batch holds one concurrency permit while it runs; its upstream lookups always use
+     * the bulk lane.
+     * 
+     * @param ids Customer IDs, e.g. [1, 2, 3]
+     * @return Per-customer results in request order
+     */
+    @PostMapping("/customers")
+    public Mono<ResponseEntity<BatchCustomerResponse>> getCustomers(@RequestBody List<Long> ids) {
+        log.info("📨 [MuleSoft HTTP Listener - Batch] Received batch request for {} customers",
+                ids != null ? ids.size() : 0);
+
+        return concurrencyLimiter.executeUnsampled(Mono.defer(() -> integrationService.processCustomers(ids)))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * Invalidate a cached customer on every replica
+     *
+     * MuleSoft equivalent:
+     * <http:listener path="/api/customer/{id}/cache" method="DELETE"/> with an Object Store remove
+     *
+     * @param id Customer ID to invalidate
+     * @return 204 No Content once the invalidation is published
+     */
+    @DeleteMapping("/customer/{id}/cache")
+    public Mono<ResponseEntity<Void>> invalidateCustomer(@PathVariable("id") Long id) {
+        log.info("📨 [MuleSoft HTTP Listener] Cache invalidation requested for customer ID: {}", id);
+
+        return integrationService.invalidateCustomer(id)
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    /**
+     * Start (or resume) the bulk customer sync
+     *
+     * MuleSoft equivalent:
+     * <http:listener path="/api/sync" method="POST"/> triggering a Batch Job
+     *
+     * @return 202 Accepted with the job status; the sync runs in the background
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<BulkSyncStatus> startSync() {
+        log.info("📨 [MuleSoft HTTP Listener] Bulk customer sync requested");
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(customerBulkSyncJob.start());
+    }
+
+    /**
+     * Bulk customer sync progress
+     */
+    @GetMapping("/sync")
+    public ResponseEntity<BulkSyncStatus> getSyncStatus() {
+        return ResponseEntity.ok(customerBulkSyncJob.status());
+    }
+
     /**
      * Health check endpoint
      * 
@@ -69,7 +182,8 @@ public class IntegrationController {
                 "service", "integration-service",
                 "status", "UP",
                 "timestamp", System.currentTimeMillis(),
-                "description", "MuleSoft to Spring Boot Migration Prototype"
+                "description", "MuleSoft to Spring Boot Migration Prototype",
+                "threadMode", Thread.currentThread().isVirtual() ? "virtual" : "platform"
         );
         
         return ResponseEntity.ok(status);
@@ -86,6 +200,11 @@ public class IntegrationController {
                 "version", "1.0.0",
                 "endpoints", Map.of(
                         "getCustomer", "GET /api/customer/{id}",
+                        "getCustomerAsync", "GET /api/customer/{id}/async",
+                        "getCustomers", "POST /api/customers",
+                        "invalidateCustomer", "DELETE /api/customer/{id}/cache",
+                        "sync", "POST /api/sync",
+                        "syncStatus", "GET /api/sync",
                         "status", "GET /api/status",
                         "health", "GET /actuator/health"
                 ),
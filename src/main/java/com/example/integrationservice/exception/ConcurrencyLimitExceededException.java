@@ -0,0 +1,32 @@
+package com.example.integrationservice.exception;
+
+import com.example.integrationservice.limit.PriorityLane;
+
+/**
+ * Raised when a request is rejected because the inbound concurrency limit, or its priority
+ * lane's budget for upstream calls, is reached
+ * Equivalent to MuleSoft MULE:OVERLOAD (flow max concurrency exceeded)
+ *
+ * Lane rejections carry the lane: shed bulk traffic is answered with 429, everything else
+ * with 503. Rejections are cheap and frequent under overload, so no stack trace is captured.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final PriorityLane lane;
+
+    public ConcurrencyLimitExceededException(String message) {
+        this(message, null);
+    }
+
+    public ConcurrencyLimitExceededException(String message, PriorityLane lane) {
+        super(message, null, false, false);
+        this.lane = lane;
+    }
+
+    /**
+     * @return Lane whose budget was used up, or null for the inbound limit
+     */
+    public PriorityLane getLane() {
+        return lane;
+    }
+}
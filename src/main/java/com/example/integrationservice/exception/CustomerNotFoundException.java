@@ -0,0 +1,16 @@
+package com.example.integrationservice.exception;
+
+/**
+ * Raised when the external API has no customer for the ID, either just now (404) or
+ * recently enough that the negative cache still remembers it
+ * Equivalent to MuleSoft HTTP:NOT_FOUND
+ *
+ * No stack trace is captured: repeated lookups of invalid IDs are expected traffic and the
+ * negative cache answers them without touching the upstream.
+ */
+public class CustomerNotFoundException extends RuntimeException {
+
+    public CustomerNotFoundException(Long customerId, Throwable cause) {
+        super("Customer " + customerId + " not found", cause, false, false);
+    }
+}
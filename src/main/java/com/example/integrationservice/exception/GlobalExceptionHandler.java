@@ -1,6 +1,8 @@
 package com.example.integrationservice.exception;
 
+import com.example.integrationservice.limit.PriorityLane;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -49,6 +51,78 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, ex.getStatusCode());
     }
 
+    /**
+     * Handle unknown customer IDs, including repeats answered by the negative cache
+     * 
+     * MuleSoft equivalent:
+     * <on-error-continue type="HTTP:NOT_FOUND">
+     */
+    @ExceptionHandler(CustomerNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleCustomerNotFoundException(CustomerNotFoundException ex) {
+        log.debug("🔎 [MuleSoft Error Handler - NOT_FOUND] {}", ex.getMessage());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
+        errorResponse.put("error", "Not Found");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("mulesoft_equivalent", "HTTP:NOT_FOUND error");
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handle fast-fail rejections for the external API (circuit breaker open, bulkhead full)
+     * 
+     * MuleSoft equivalent:
+     * <on-error-continue type="HTTP:SERVICE_UNAVAILABLE">
+     */
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleUpstreamUnavailableException(UpstreamUnavailableException ex) {
+        log.warn("⛔ [MuleSoft Error Handler - SERVICE_UNAVAILABLE] Upstream unavailable: {}", ex.getMessage());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("reason", ex.getCause() != null ? ex.getCause().getMessage() : null);
+        errorResponse.put("mulesoft_equivalent", "HTTP:SERVICE_UNAVAILABLE error");
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handle requests rejected by the adaptive concurrency limit
+     * Shed bulk traffic gets 429 (caller should slow down), every other rejection 503;
+     * Retry-After tells well-behaved clients to back off instead of retrying at once
+     * 
+     * MuleSoft equivalent:
+     * <on-error-continue type="MULE:OVERLOAD">
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleConcurrencyLimitExceededException(ConcurrencyLimitExceededException ex) {
+        log.debug("🚦 [MuleSoft Error Handler - OVERLOAD] {}", ex.getMessage());
+        
+        HttpStatus status = ex.getLane() == PriorityLane.BULK
+                ? HttpStatus.TOO_MANY_REQUESTS
+                : HttpStatus.SERVICE_UNAVAILABLE;
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", status.value());
+        errorResponse.put("error", status.getReasonPhrase());
+        errorResponse.put("message", ex.getMessage());
+        if (ex.getLane() != null) {
+            errorResponse.put("lane", ex.getLane().tag());
+        }
+        errorResponse.put("mulesoft_equivalent", "MULE:OVERLOAD error");
+        
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * Handle generic runtime exceptions
      * 
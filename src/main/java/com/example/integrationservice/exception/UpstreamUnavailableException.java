@@ -0,0 +1,13 @@
+package com.example.integrationservice.exception;
+
+/**
+ * Raised when a call to the external API is not attempted because the upstream is
+ * considered unavailable: the circuit breaker is open or the bulkhead is full
+ * Equivalent to MuleSoft HTTP:SERVICE_UNAVAILABLE / MULE:OVERLOAD (fail fast instead of queueing)
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.integrationservice.limit;
+
+import com.example.integrationservice.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Adaptive concurrency limit for inbound customer requests
+ * Equivalent to MuleSoft flow maxConcurrency, but sized from observed latency
+ *
+ * Gradient algorithm (as in Netflix concurrency-limits Gradient2):
+ * - longRtt: slow exponential average of request latency, the "no queueing" baseline
+ * - gradient = clamp(tolerance * longRtt / rtt, 0.5, 1.0): below 1 once latency rises
+ *   above the baseline, i.e. once requests start queueing somewhere downstream
+ * - newLimit = limit * gradient + sqrt(limit), smoothed, within [min-limit, max-limit]
+ * The limit grows while latency stays flat and shrinks as soon as it climbs; requests over
+ * the limit are rejected at once instead of queueing (503 via GlobalExceptionHandler).
+ * PriorityLaneLimiter splits the same limit into per-lane budgets for upstream calls.
+ *
+ * Only successful requests are sampled; a timeout counts as a drop and cuts the limit.
+ * Metrics: integration.concurrency.limit, integration.concurrency.inflight and
+ * integration.concurrency.requests{result=accepted|rejected}.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LONG_RTT_WINDOW = 600;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+    private double longRttNanos;
+
+    private final Counter accepted;
+    private final Counter rejected;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${integration.concurrency.enabled:true}") boolean enabled,
+            @Value("${integration.concurrency.initial-limit:50}") int initialLimit,
+            @Value("${integration.concurrency.min-limit:10}") int minLimit,
+            @Value("${integration.concurrency.max-limit:500}") int maxLimit,
+            @Value("${integration.concurrency.smoothing:0.2}") double smoothing,
+            @Value("${integration.concurrency.tolerance:1.5}") double tolerance,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+
+        this.accepted = meterRegistry.counter("integration.concurrency.requests", "result", "accepted");
+        this.rejected = meterRegistry.counter("integration.concurrency.requests", "result", "rejected");
+        Gauge.builder("integration.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for customer requests")
+                .register(meterRegistry);
+        Gauge.builder("integration.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Customer requests currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a blocking call under the limit
+     *
+     * @throws ConcurrencyLimitExceededException immediately when the limit is reached
+     */
+    public <T> T execute(Supplier<T> call) {
+        Permit permit = acquire(true);
+        try {
+            T result = call.get();
+            permit.release(null);
+            return result;
+        } catch (RuntimeException | Error e) {
+            permit.release(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Run a reactive call under the limit; the permit is taken now and held until the Mono
+     * terminates or is cancelled
+     *
+     * @throws ConcurrencyLimitExceededException immediately when the limit is reached
+     */
+    public <T> Mono<T> execute(Mono<T> call) {
+        return hold(acquire(true), call);
+    }
+
+    /**
+     * Like execute, for calls whose latency says nothing about a single lookup (a whole batch):
+     * they take one permit but do not move the limit
+     */
+    public <T> Mono<T> executeUnsampled(Mono<T> call) {
+        return hold(acquire(false), call);
+    }
+
+    private static <T> Mono<T> hold(Permit permit, Mono<T> call) {
+        return call
+                .doOnSuccess(result -> permit.release(null))
+                .doOnError(permit::release)
+                .doOnCancel(permit::cancel);
+    }
+
+    Permit acquire(boolean sampled) {
+        if (!enabled) {
+            return Permit.UNLIMITED;
+        }
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                throw new ConcurrencyLimitExceededException(
+                        "Concurrency limit of " + (int) limit + " in-flight customer requests reached");
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return new Permit(this, System.nanoTime(), current + 1, sampled);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Feed one completed request into the limit
+     *
+     * @param rttNanos latency of the request
+     * @param inflightAtStart requests in flight when it started, itself included
+     */
+    synchronized void onSample(long rttNanos, int inflightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_RTT_WINDOW;
+        }
+        // Let the baseline recover quickly after a sustained latency increase has passed
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // App-limited: not enough traffic to tell whether a higher limit would queue
+        if (inflightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        update(limit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    synchronized void onDrop() {
+        update(limit * DROP_BACKOFF);
+    }
+
+    private void update(double newLimit) {
+        double previous = limit;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) previous != (int) limit) {
+            log.debug("🚦 [MuleSoft Max Concurrency] Limit {} -> {}", (int) previous, (int) limit);
+        }
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One admitted request; released exactly once
+     */
+    static class Permit {
+
+        static final Permit UNLIMITED = new Permit(null, 0, 0, false);
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long startNanos;
+        private final int inflightAtStart;
+        private final boolean sampled;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(AdaptiveConcurrencyLimiter limiter, long startNanos, int inflightAtStart, boolean sampled) {
+            this.limiter = limiter;
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+            this.sampled = sampled;
+        }
+
+        /**
+         * @param error null on success; a timeout lowers the limit, other errors are not sampled
+         */
+        void release(Throwable error) {
+            if (!free() || !sampled) {
+                return;
+            }
+            if (error == null) {
+                limiter.onSample(System.nanoTime() - startNanos, inflightAtStart);
+            } else if (isTimeout(error)) {
+                limiter.onDrop();
+            }
+        }
+
+        void cancel() {
+            free();
+        }
+
+        private boolean free() {
+            if (limiter == null || !released.compareAndSet(false, true)) {
+                return false;
+            }
+            limiter.inflight.decrementAndGet();
+            return true;
+        }
+    }
+}
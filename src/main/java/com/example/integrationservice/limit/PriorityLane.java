@@ -0,0 +1,22 @@
+package com.example.integrationservice.limit;
+
+/**
+ * Priority lanes for inbound customer traffic
+ * Equivalent to MuleSoft API Manager SLA tiers feeding one flow
+ *
+ * - INTERACTIVE: UI calls; their upstream calls may use the whole concurrency limit
+ * - BULK: back-office and batch callers; their upstream calls are capped at a share of the
+ *   limit, so they are shed first when the limit shrinks under pressure (PriorityLaneLimiter)
+ */
+public enum PriorityLane {
+
+    INTERACTIVE,
+    BULK;
+
+    /**
+     * Metric tag value
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.integrationservice.limit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns each customer request to a priority lane
+ * Equivalent to MuleSoft client ID enforcement mapping an application to its SLA tier
+ *
+ * - API keys listed in integration.concurrency.lanes.bulk-api-keys are always BULK,
+ *   whatever header they send
+ * - Otherwise the X-Request-Priority header decides ("bulk" or "interactive")
+ * - Requests without either are INTERACTIVE
+ */
+@Component
+public class PriorityLaneClassifier {
+
+    public static final String PRIORITY_HEADER = "X-Request-Priority";
+    public static final String API_KEY_HEADER = "X-Api-Key";
+
+    private final Set<String> bulkApiKeys;
+
+    public PriorityLaneClassifier(@Value("${integration.concurrency.lanes.bulk-api-keys:}") Set<String> bulkApiKeys) {
+        this.bulkApiKeys = bulkApiKeys.stream()
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * @param priority X-Request-Priority header, may be null
+     * @param apiKey X-Api-Key header, may be null
+     */
+    public PriorityLane classify(String priority, String apiKey) {
+        if (apiKey != null && bulkApiKeys.contains(apiKey)) {
+            return PriorityLane.BULK;
+        }
+        return PriorityLane.BULK.tag().equalsIgnoreCase(priority) ? PriorityLane.BULK : PriorityLane.INTERACTIVE;
+    }
+}
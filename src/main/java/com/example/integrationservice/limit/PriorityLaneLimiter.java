@@ -0,0 +1,206 @@
+package com.example.integrationservice.limit;
+
+import com.example.integrationservice.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Per-lane concurrency budgets for upstream calls (ExternalApiClient)
+ * Equivalent to MuleSoft API Manager SLA tiers, enforced on the outbound HTTP Request
+ *
+ * Only requests that actually go upstream take a lane permit; store and cache hits never do.
+ * Budgets follow the adaptive limit (AdaptiveConcurrencyLimiter):
+ * - INTERACTIVE calls may use the whole limit
+ * - BULK calls may hold at most bulk-share of it, so interactive calls always keep the rest;
+ *   as the limit shrinks under pressure, the bulk budget shrinks with it and bulk calls are
+ *   shed first (429)
+ * Over budget, a call fails at once instead of queueing behind the slow upstream.
+ *
+ * Metrics: integration.concurrency.lane.inflight{lane},
+ * integration.concurrency.lane.requests{lane,result=accepted|rejected} and
+ * integration.concurrency.lane.latency{lane}.
+ */
+@Component
+public class PriorityLaneLimiter {
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final double bulkShare;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<PriorityLane, Lane> lanes = new EnumMap<>(PriorityLane.class);
+
+    public PriorityLaneLimiter(
+            @Value("${integration.concurrency.enabled:true}") boolean enabled,
+            AdaptiveConcurrencyLimiter limiter,
+            @Value("${integration.concurrency.lanes.bulk-share:0.3}") double bulkShare,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.limiter = limiter;
+        this.bulkShare = bulkShare;
+
+        for (PriorityLane lane : PriorityLane.values()) {
+            lanes.put(lane, new Lane(lane, meterRegistry));
+        }
+    }
+
+    /**
+     * Run a blocking upstream call in the lane
+     *
+     * @throws ConcurrencyLimitExceededException immediately when the lane's budget is used up
+     */
+    public <T> T execute(PriorityLane lane, Supplier<T> call) {
+        Permit permit = acquire(lane);
+        try {
+            return call.get();
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * Run a reactive upstream call in the lane; the permit is taken on subscription and held
+     * until the Mono emits, terminates or is cancelled. It is released before the signal is
+     * passed on, so a caller that starts its next call from that signal (batch fan-out, page
+     * after page) finds the permit free. Over budget, the Mono fails with
+     * ConcurrencyLimitExceededException.
+     */
+    public <T> Mono<T> execute(PriorityLane lane, Mono<T> call) {
+        return Mono.defer(() -> {
+            Permit permit = acquire(lane);
+            return call.doOnEach(signal -> permit.release())
+                    .doOnCancel(permit::release);
+        });
+    }
+
+    /**
+     * Current in-flight budget of the lane (unbounded when disabled); callers that fan out,
+     * like the batch flow, cap their parallelism at it
+     */
+    public int budget(PriorityLane priority) {
+        if (!enabled) {
+            return Integer.MAX_VALUE;
+        }
+        int total = limiter.getLimit();
+        return priority == PriorityLane.BULK ? Math.max(1, (int) (total * bulkShare)) : total;
+    }
+
+    Permit acquire(PriorityLane priority) {
+        if (!enabled) {
+            return Permit.UNLIMITED;
+        }
+        Lane lane = lanes.get(priority);
+        int total = limiter.getLimit();
+        int budget = budget(priority);
+        if (!lane.tryAcquire(budget)) {
+            throw reject(lane, budget);
+        }
+        while (true) {
+            int current = inflight.get();
+            if (current >= total) {
+                lane.inflight.decrementAndGet();
+                throw reject(lane, total);
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                lane.accepted.increment();
+                return new Permit(this, lane, System.nanoTime());
+            }
+        }
+    }
+
+    private ConcurrencyLimitExceededException reject(Lane lane, int budget) {
+        lane.rejected.increment();
+        return new ConcurrencyLimitExceededException(
+                "Concurrency limit of " + budget + " in-flight " + lane.priority.tag() + " upstream calls reached",
+                lane.priority);
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public int getInflight(PriorityLane lane) {
+        return lanes.get(lane).inflight.get();
+    }
+
+    /**
+     * Per-lane in-flight count and meters
+     */
+    private static final class Lane {
+
+        private final PriorityLane priority;
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final Counter accepted;
+        private final Counter rejected;
+        private final Timer latency;
+
+        private Lane(PriorityLane priority, MeterRegistry meterRegistry) {
+            this.priority = priority;
+            this.accepted = meterRegistry.counter("integration.concurrency.lane.requests",
+                    "lane", priority.tag(), "result", "accepted");
+            this.rejected = meterRegistry.counter("integration.concurrency.lane.requests",
+                    "lane", priority.tag(), "result", "rejected");
+            this.latency = Timer.builder("integration.concurrency.lane.latency")
+                    .description("Latency of admitted upstream calls per priority lane")
+                    .tag("lane", priority.tag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            Gauge.builder("integration.concurrency.lane.inflight", inflight, AtomicInteger::get)
+                    .description("Upstream calls currently in flight per priority lane")
+                    .tag("lane", priority.tag())
+                    .register(meterRegistry);
+        }
+
+        private boolean tryAcquire(int budget) {
+            while (true) {
+                int current = inflight.get();
+                if (current >= budget) {
+                    return false;
+                }
+                if (inflight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * One admitted upstream call; released exactly once
+     */
+    static class Permit {
+
+        static final Permit UNLIMITED = new Permit(null, null, 0);
+
+        private final PriorityLaneLimiter limiter;
+        private final Lane lane;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(PriorityLaneLimiter limiter, Lane lane, long startNanos) {
+            this.limiter = limiter;
+            this.lane = lane;
+            this.startNanos = startNanos;
+        }
+
+        void release() {
+            if (limiter == null || !released.compareAndSet(false, true)) {
+                return;
+            }
+            limiter.inflight.decrementAndGet();
+            lane.inflight.decrementAndGet();
+            lane.latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.integrationservice.logging;
+
+import io.micrometer.context.ContextRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Correlation ID Filter
+ * Equivalent to MuleSoft's correlationId, propagated through every event of a flow
+ *
+ * - Takes the caller's X-Correlation-Id header, or generates a random 64-bit hex ID
+ * - Puts it in the MDC as correlationId, so every log line of the request carries it
+ *   (next to traceId/spanId from tracing), and echoes it on the response
+ * - Registered with the context-propagation registry, so the MDC value follows the
+ *   request across Reactor thread hops (spring.reactor.context-propagation=auto)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    private static final int MAX_LENGTH = 64;
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(MDC_KEY,
+                () -> MDC.get(MDC_KEY),
+                value -> MDC.put(MDC_KEY, value),
+                () -> MDC.remove(MDC_KEY));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String correlationId = correlationId(request.getHeader(HEADER));
+        MDC.put(MDC_KEY, correlationId);
+        response.setHeader(HEADER, correlationId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * Caller-supplied IDs are accepted only when short and free of control characters,
+     * so a header cannot forge or break log lines
+     */
+    static String correlationId(String header) {
+        if (header != null && !header.isBlank() && header.length() <= MAX_LENGTH
+                && header.chars().noneMatch(Character::isISOControl)) {
+            return header;
+        }
+        // Random 64-bit hex: unique enough for log correlation, without SecureRandom on the hot path
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -2,8 +2,11 @@ package com.example.integrationservice.mapper;
 
 import com.example.integrationservice.model.Customer;
 import com.example.integrationservice.model.CustomerResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -32,12 +35,45 @@ import java.time.format.DateTimeFormatter;
  * 
  * For complex transformations, consider MapStruct for compile-time safety:
  * https://mapstruct.org/
+ * 
+ * Fast path (integration.mapper.fast-path=true) produces the same fields with close to one
+ * allocation per mapping: location strings are reused through a bounded LocationInterner,
+ * the full name is a single concatenation (or an existing string), and processedAt comes
+ * from a MillisecondClock that hands out one shared LocalDateTime per millisecond.
  */
 @Component
 public class CustomerMapper {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    static final String NOT_AVAILABLE = "N/A";
+    static final String UNKNOWN = "Unknown";
+    static final String STATUS_SUCCESS = "SUCCESS";
+
+    private final boolean fastPath;
+    private final LocationInterner locationInterner;
+    private final MillisecondClock clock;
+
+    /**
+     * Standard mapper, as used in unit tests
+     */
+    public CustomerMapper() {
+        this(false, LocationInterner.DEFAULT_CAPACITY, Clock.systemDefaultZone());
+    }
+
+    @Autowired
+    public CustomerMapper(
+            @Value("${integration.mapper.fast-path:false}") boolean fastPath,
+            @Value("${integration.mapper.location-cache-size:4096}") int locationCacheSize) {
+        this(fastPath, locationCacheSize, Clock.systemDefaultZone());
+    }
+
+    public CustomerMapper(boolean fastPath, int locationCacheSize, Clock clock) {
+        this.fastPath = fastPath;
+        this.locationInterner = new LocationInterner(locationCacheSize);
+        this.clock = new MillisecondClock(clock);
+    }
+
     /**
      * Transform Customer entity to CustomerResponse DTO
      * 
@@ -57,24 +93,26 @@ public class CustomerMapper {
         response.setCustomerId(customer.getId());
         
         // String concatenation (MuleSoft: firstName ++ " " ++ lastName)
-        response.setFullName(buildFullName(customer));
+        response.setFullName(buildFullName(customer.getFirstName(), customer.getLastName()));
         
         // Copy fields with null safety
         response.setEmail(customer.getEmail());
         response.setPhoneNumber(customer.getPhone());
         response.setCustomerAge(customer.getAge());
-        response.setLocation(buildLocation(customer));
-        response.setCompanyName(customer.getCompany() != null ? customer.getCompany().getName() : "N/A");
-        response.setJobTitle(customer.getCompany() != null ? customer.getCompany().getTitle() : "N/A");
+        response.setLocation(customer.getAddress() != null
+                ? buildLocation(customer.getAddress().getCity(), customer.getAddress().getState())
+                : UNKNOWN);
+        response.setCompanyName(customer.getCompany() != null ? customer.getCompany().getName() : NOT_AVAILABLE);
+        response.setJobTitle(customer.getCompany() != null ? customer.getCompany().getTitle() : NOT_AVAILABLE);
         
         // Conditional logic (MuleSoft: if-else)
         response.setLoyaltyScore(calculateLoyaltyScore(customer.getAge()));
         
         // Date formatting (MuleSoft: now() as String {format: "yyyy-MM-dd'T'HH:mm:ss"})
-        response.setProcessedAt(LocalDateTime.now());
+        response.setProcessedAt(processedAt());
         
         // Status enrichment
-        response.setStatus("SUCCESS");
+        response.setStatus(STATUS_SUCCESS);
         
         return response;
     }
@@ -85,21 +123,25 @@ public class CustomerMapper {
      * MuleSoft DataWeave equivalent:
      * firstName ++ " " ++ lastName
      */
-    private String buildFullName(Customer customer) {
+    String buildFullName(String firstName, String lastName) {
+        if (fastPath) {
+            return joinName(firstName, lastName);
+        }
+        
         StringBuilder fullName = new StringBuilder();
         
-        if (customer.getFirstName() != null) {
-            fullName.append(customer.getFirstName());
+        if (firstName != null) {
+            fullName.append(firstName);
         }
         
-        if (customer.getLastName() != null) {
+        if (lastName != null) {
             if (fullName.length() > 0) {
                 fullName.append(" ");
             }
-            fullName.append(customer.getLastName());
+            fullName.append(lastName);
         }
         
-        return fullName.length() > 0 ? fullName.toString() : "Unknown";
+        return fullName.length() > 0 ? fullName.toString() : UNKNOWN;
     }
 
     /**
@@ -108,23 +150,16 @@ public class CustomerMapper {
      * MuleSoft DataWeave equivalent:
      * address.city ++ ", " ++ address.state
      */
-    private String buildLocation(Customer customer) {
-        if (customer.getAddress() == null) {
-            return "Unknown";
-        }
-        
-        String city = customer.getAddress().getCity();
-        String state = customer.getAddress().getState();
-        
+    String buildLocation(String city, String state) {
         if (city != null && state != null) {
-            return city + ", " + state;
+            return fastPath ? locationInterner.intern(city, state) : city + ", " + state;
         } else if (city != null) {
             return city;
         } else if (state != null) {
             return state;
         }
         
-        return "Unknown";
+        return UNKNOWN;
     }
 
     /**
@@ -140,18 +175,29 @@ public class CustomerMapper {
      * - Age 31-50: Silver (valued customer)
      * - Age ≤ 30: Bronze (standard customer)
      */
-    private String calculateLoyaltyScore(Integer age) {
-        if (age == null) {
-            return "Bronze";
+    String calculateLoyaltyScore(Integer age) {
+        return LoyaltyTier.fromAge(age).label();
+    }
+
+    /**
+     * Processing timestamp: wall clock, or the shared per-millisecond instance on the fast path
+     */
+    LocalDateTime processedAt() {
+        return fastPath ? clock.now() : LocalDateTime.now();
+    }
+
+    /**
+     * Fast-path full name: one concatenation when both parts exist, otherwise no allocation
+     */
+    private static String joinName(String firstName, String lastName) {
+        boolean hasFirstName = firstName != null && !firstName.isEmpty();
+        if (lastName == null) {
+            return hasFirstName ? firstName : UNKNOWN;
         }
-        
-        if (age > 50) {
-            return "Gold";
-        } else if (age > 30) {
-            return "Silver";
-        } else {
-            return "Bronze";
+        if (!hasFirstName) {
+            return lastName.isEmpty() ? UNKNOWN : lastName;
         }
+        return firstName + " " + lastName;
     }
 
     /**
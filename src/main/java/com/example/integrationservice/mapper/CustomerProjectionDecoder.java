@@ -0,0 +1,168 @@
+package com.example.integrationservice.mapper;
+
+import com.example.integrationservice.model.CustomerPage;
+import com.example.integrationservice.model.CustomerResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projection decoder: upstream user JSON straight into CustomerResponse
+ * Equivalent to a MuleSoft streaming DataWeave transform (deferred=true) on the HTTP response
+ *
+ * Reads the payload token by token with the Jackson streaming parser, keeps only the fields
+ * CustomerMapper uses (id, names, email, phone, age, address city/state, company name/title)
+ * and skips every other subtree (image, hair, bank, crypto, coordinates, ...) without
+ * materialising it. No Customer, Address or Company objects are built; the mapping rules
+ * are CustomerMapper's, so the output matches toCustomerResponse.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerProjectionDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final CustomerMapper customerMapper;
+
+    /**
+     * Decode a single user object (GET /users/{id})
+     */
+    public CustomerResponse decode(byte[] json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            return readCustomer(parser);
+        } catch (IOException e) {
+            throw new DecodingException("Malformed customer payload", e);
+        }
+    }
+
+    /**
+     * Decode a collection page (GET /users?limit=&skip=), projecting each entry of "users"
+     */
+    public CustomerPage decodePage(byte[] json) {
+        CustomerPage page = new CustomerPage();
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "users" -> page.setCustomers(readCustomers(parser, value));
+                    case "total" -> page.setTotal(parser.getValueAsInt());
+                    case "skip" -> page.setSkip(parser.getValueAsInt());
+                    case "limit" -> page.setLimit(parser.getValueAsInt());
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new DecodingException("Malformed customer page payload", e);
+        }
+        if (page.getCustomers() == null) {
+            page.setCustomers(List.of());
+        }
+        return page;
+    }
+
+    private List<CustomerResponse> readCustomers(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return List.of();
+        }
+        expect(token, JsonToken.START_ARRAY);
+        List<CustomerResponse> customers = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            customers.add(readCustomer(parser));
+        }
+        return customers;
+    }
+
+    /**
+     * Read one user object; the parser is positioned on its START_OBJECT
+     */
+    private CustomerResponse readCustomer(JsonParser parser) throws IOException {
+        Long id = null;
+        String firstName = null;
+        String lastName = null;
+        String email = null;
+        String phone = null;
+        Integer age = null;
+        String city = null;
+        String state = null;
+        boolean hasAddress = false;
+        String companyName = null;
+        String companyTitle = null;
+        boolean hasCompany = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> id = value == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+                case "firstName" -> firstName = parser.getValueAsString();
+                case "lastName" -> lastName = parser.getValueAsString();
+                case "email" -> email = parser.getValueAsString();
+                case "phone" -> phone = parser.getValueAsString();
+                case "age" -> age = value == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+                case "address" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        hasAddress = true;
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String addressField = parser.currentName();
+                            parser.nextToken();
+                            switch (addressField) {
+                                case "city" -> city = parser.getValueAsString();
+                                case "state" -> state = parser.getValueAsString();
+                                default -> parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case "company" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        hasCompany = true;
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String companyField = parser.currentName();
+                            parser.nextToken();
+                            switch (companyField) {
+                                case "name" -> companyName = parser.getValueAsString();
+                                case "title" -> companyTitle = parser.getValueAsString();
+                                default -> parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        CustomerResponse response = new CustomerResponse();
+        response.setCustomerId(id);
+        response.setFullName(customerMapper.buildFullName(firstName, lastName));
+        response.setEmail(email);
+        response.setPhoneNumber(phone);
+        response.setCustomerAge(age);
+        response.setLocation(hasAddress ? customerMapper.buildLocation(city, state) : CustomerMapper.UNKNOWN);
+        response.setCompanyName(hasCompany ? companyName : CustomerMapper.NOT_AVAILABLE);
+        response.setJobTitle(hasCompany ? companyTitle : CustomerMapper.NOT_AVAILABLE);
+        response.setLoyaltyScore(customerMapper.calculateLoyaltyScore(age));
+        response.setProcessedAt(customerMapper.processedAt());
+        response.setStatus(CustomerMapper.STATUS_SUCCESS);
+        return response;
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.integrationservice.mapper;
+
+/**
+ * Bounded intern table for "city, state" location strings
+ *
+ * Direct-mapped: each (city, state) pair hashes to one slot, and a colliding pair simply
+ * replaces the previous entry, so memory is fixed at the configured capacity and lookups
+ * never lock. A hit returns the previously built string without allocating. Entries are
+ * immutable records, so racy slot writes between threads are safe (at worst a string is
+ * built twice).
+ */
+final class LocationInterner {
+
+    static final int DEFAULT_CAPACITY = 4096;
+
+    private record Entry(String city, String state, String location) {
+    }
+
+    private final Entry[] slots;
+    private final int mask;
+
+    LocationInterner(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1) << 1);
+        this.slots = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    String intern(String city, String state) {
+        int hash = city.hashCode() * 31 + state.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+
+        Entry entry = slots[index];
+        if (entry != null && entry.city().equals(city) && entry.state().equals(state)) {
+            return entry.location();
+        }
+
+        String location = city + ", " + state;
+        slots[index] = new Entry(city, state, location);
+        return location;
+    }
+}
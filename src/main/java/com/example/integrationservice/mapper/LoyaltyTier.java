@@ -0,0 +1,37 @@
+package com.example.integrationservice.mapper;
+
+/**
+ * Loyalty tier derived from customer age
+ * Equivalent to the MuleSoft DataWeave if/else on payload.age
+ *
+ * Labels are the values carried in CustomerResponse.loyaltyScore and the event schema.
+ */
+public enum LoyaltyTier {
+
+    GOLD("Gold"),
+    SILVER("Silver"),
+    BRONZE("Bronze");
+
+    private final String label;
+
+    LoyaltyTier(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Age > 50: Gold, 31-50: Silver, otherwise (or unknown) Bronze
+     */
+    public static LoyaltyTier fromAge(Integer age) {
+        if (age == null) {
+            return BRONZE;
+        }
+        if (age > 50) {
+            return GOLD;
+        }
+        return age > 30 ? SILVER : BRONZE;
+    }
+}
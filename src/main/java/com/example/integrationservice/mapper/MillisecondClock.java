@@ -0,0 +1,41 @@
+package com.example.integrationservice.mapper;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Millisecond-resolution LocalDateTime source
+ *
+ * LocalDateTime.now() reads the clock at nanosecond precision and allocates a
+ * LocalDateTime (plus its LocalDate and LocalTime) per call. This clock reads only
+ * Clock.millis() and returns one shared, immutable LocalDateTime for every caller within
+ * the same millisecond.
+ */
+final class MillisecondClock {
+
+    private record Tick(long millis, LocalDateTime time) {
+    }
+
+    private final Clock clock;
+    private final ZoneId zone;
+    private volatile Tick tick = new Tick(Long.MIN_VALUE, null);
+
+    MillisecondClock(Clock clock) {
+        this.clock = clock;
+        this.zone = clock.getZone();
+    }
+
+    LocalDateTime now() {
+        long millis = clock.millis();
+        Tick current = tick;
+        if (current.millis() == millis) {
+            return current.time();
+        }
+
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+        tick = new Tick(millis, time);
+        return time;
+    }
+}
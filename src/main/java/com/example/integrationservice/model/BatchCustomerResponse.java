@@ -0,0 +1,23 @@
+package com.example.integrationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Batch customer response payload - results are in the same order as the requested IDs
+ * Equivalent to MuleSoft Batch Job "On Complete" summary
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCustomerResponse {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BatchCustomerResult> results;
+}
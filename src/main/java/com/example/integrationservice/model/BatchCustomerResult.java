@@ -0,0 +1,36 @@
+package com.example.integrationservice.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single customer lookup inside a batch request
+ * Equivalent to one element of a MuleSoft Batch Job result set
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchCustomerResult {
+
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_NOT_FOUND = "NOT_FOUND";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private Long customerId;
+    private String status;
+    private CustomerResponse customer;
+    private String error;
+
+    public static BatchCustomerResult success(Long customerId, CustomerResponse customer) {
+        return new BatchCustomerResult(customerId, STATUS_SUCCESS, customer, null);
+    }
+
+    public static BatchCustomerResult failure(Long customerId, String status, String error) {
+        return new BatchCustomerResult(customerId, status, null, error);
+    }
+}
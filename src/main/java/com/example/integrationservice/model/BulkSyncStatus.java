@@ -0,0 +1,34 @@
+package com.example.integrationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the bulk customer sync job
+ * Equivalent to MuleSoft Batch Job instance status
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSyncStatus {
+
+    public static final String STATE_IDLE = "IDLE";
+    public static final String STATE_RUNNING = "RUNNING";
+    public static final String STATE_COMPLETED = "COMPLETED";
+    public static final String STATE_FAILED = "FAILED";
+
+    private String state;
+    private int resumedFrom;
+    private int nextSkip;
+    private long synced;
+    private int total;
+    private double recordsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
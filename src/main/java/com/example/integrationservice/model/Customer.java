@@ -29,7 +29,7 @@ public class Customer {
     private Double height;
     private Double weight;
     private String eyeColor;
-    private String hair;
+    private Hair hair;
     private String username;
     private Address address;
     private Company company;
@@ -56,6 +56,15 @@ public class Customer {
         }
     }
 
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Hair {
+        private String color;
+        private String type;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
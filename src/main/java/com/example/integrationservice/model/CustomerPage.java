@@ -0,0 +1,35 @@
+package com.example.integrationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the upstream customer collection (GET /users?limit=&skip=), already projected
+ * into CustomerResponse by CustomerProjectionDecoder
+ * Equivalent to a MuleSoft paged HTTP Request response
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerPage {
+    private List<CustomerResponse> customers;
+    private int total;
+    private int skip;
+    private int limit;
+
+    /**
+     * Offset of the page after this one
+     */
+    public int nextSkip() {
+        return skip + (customers != null ? customers.size() : 0);
+    }
+
+    public boolean hasNext() {
+        return customers != null && !customers.isEmpty() && nextSkip() < total;
+    }
+}
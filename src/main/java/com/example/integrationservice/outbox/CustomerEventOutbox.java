@@ -0,0 +1,115 @@
+package com.example.integrationservice.outbox;
+
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.serialization.CustomerEventFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Transactional outbox for customer events
+ * Equivalent to MuleSoft persistent VM queue in front of the JMS/Kafka publish
+ *
+ * On the request path an event is only appended to the local OutboxLog (a memory copy),
+ * so request latency no longer depends on the broker. OutboxRelay drains the log to Kafka
+ * in batches and checkpoints what was acknowledged, so events survive broker outages and
+ * restarts. Delivery is at-least-once: a crash between send and checkpoint re-sends the
+ * last batch, which consumers absorb because events are keyed by customer ID.
+ *
+ * Events are stored as their final record bytes in the integration.kafka.serialization
+ * format, so the relay forwards them as-is without decoding and re-encoding.
+ */
+@Slf4j
+@Component
+public class CustomerEventOutbox {
+
+    private final boolean enabled;
+    private final OutboxLog outboxLog;
+    private final Serializer<CustomerResponse> serializer;
+    private final Counter appended;
+
+    public CustomerEventOutbox(
+            @Value("${integration.outbox.enabled:true}") boolean enabled,
+            @Value("${integration.outbox.directory:./data/outbox}") Path directory,
+            @Value("${integration.outbox.segment-size:64MB}") DataSize segmentSize,
+            @Value("${integration.kafka.serialization:AVRO}") CustomerEventFormat format,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.serializer = format.newSerializer();
+        this.outboxLog = enabled ? new OutboxLog(directory, (int) segmentSize.toBytes()) : null;
+        this.appended = Counter.builder("outbox.events.appended")
+                .description("Customer events appended to the local outbox")
+                .register(meterRegistry);
+        if (enabled) {
+            Gauge.builder("outbox.backlog.bytes", outboxLog, OutboxLog::backlogBytes)
+                    .description("Outbox bytes not yet relayed to Kafka")
+                    .register(meterRegistry);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Append one event
+     *
+     * @param durable also flush to the storage device before returning; concurrent durable
+     *                appends share one flush (OutboxLog group commit)
+     */
+    public void append(CustomerResponse event, boolean durable) {
+        OutboxLog.Position end = outboxLog.append(key(event), encode(event));
+        if (durable) {
+            outboxLog.force(end);
+        }
+        appended.increment();
+    }
+
+    public void appendAll(List<CustomerResponse> events) {
+        for (CustomerResponse event : events) {
+            outboxLog.append(key(event), encode(event));
+        }
+        appended.increment(events.size());
+    }
+
+    /**
+     * Append a tombstone for the customer, in order with the events already queued for it,
+     * so an older queued event can never be relayed after the deletion
+     */
+    public void appendTombstone(Long customerId) {
+        outboxLog.append(String.valueOf(customerId).getBytes(StandardCharsets.UTF_8), null);
+        appended.increment();
+    }
+
+    OutboxLog outboxLog() {
+        return outboxLog;
+    }
+
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (outboxLog != null) {
+            outboxLog.close();
+        }
+    }
+
+    private byte[] encode(CustomerResponse event) {
+        return serializer.serialize(KafkaConfig.CUSTOMER_EVENTS_TOPIC, event);
+    }
+
+    private static byte[] key(CustomerResponse event) {
+        return String.valueOf(event.getCustomerId()).getBytes(StandardCharsets.UTF_8);
+    }
+}
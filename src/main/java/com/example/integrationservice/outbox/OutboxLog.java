@@ -0,0 +1,371 @@
+package com.example.integrationservice.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Durable append-only log backed by memory-mapped segment files
+ * Equivalent to a MuleSoft persistent VM queue, stored on local disk
+ *
+ * Layout: fixed-size segment files named by sequence number. Each record is
+ * [int bodyLength][int crc32(body)][short keyLength][key][value]; a zero length marks
+ * the end of written data (new segments are zero-filled). A null value (tombstone) is
+ * stored with no value bytes and the key length complemented (negative). Appends are a memory copy
+ * into the page cache, so they survive a process crash; call {@link #force(Position)} to also
+ * survive a power loss.
+ *
+ * Flushes are group commits: callers waiting on force queue behind one flush at a time, and
+ * each flush covers everything appended so far, so N concurrent durable appends cost one
+ * msync of the dirty range rather than N. Locks are ReentrantLocks, so waiting virtual
+ * threads unmount instead of pinning their carrier.
+ *
+ * A single reader (the relay) consumes from the committed position. Committing
+ * persists the position to a checkpoint file and deletes fully consumed segments.
+ * On open, the tail of the last segment is re-validated and any torn record is dropped.
+ */
+@Slf4j
+public class OutboxLog implements Closeable {
+
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Map<Long, MappedByteBuffer> readMappings = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private FileChannel writeChannel;
+    private MappedByteBuffer writeBuffer;
+    private long writeSegment;
+
+    /** Last fully written position, published after each append */
+    private volatile Position head;
+    private volatile Position committed;
+    /** Everything before this position has been flushed to the storage device */
+    private volatile Position durable;
+
+    /**
+     * Position in the log: segment sequence number and byte offset inside it
+     */
+    public record Position(long segment, int offset) {
+
+        boolean isAtOrBefore(Position other) {
+            return segment < other.segment || (segment == other.segment && offset <= other.offset);
+        }
+    }
+
+    /**
+     * Record read back from the log, with the position just after it; value is null for a tombstone
+     */
+    public record Entry(byte[] key, byte[] value, Position next) {
+    }
+
+    public OutboxLog(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            List<Long> segments = listSegments();
+            writeSegment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+            openWriteSegment(writeSegment);
+            int tail = recoverTail(writeBuffer);
+            writeBuffer.position(tail);
+            head = new Position(writeSegment, tail);
+            durable = head;
+            committed = readCheckpoint(segments.isEmpty() ? 0 : segments.get(0));
+            log.info("📦 [MuleSoft Persistent Queue] Outbox opened at {}: committed={}, head={}", directory, committed, head);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open outbox log at " + directory, e);
+        }
+    }
+
+    /**
+     * Append one record; rolls to a new segment when the current one is full
+     *
+     * @param value record value, or null for a tombstone
+     * @return Position just after the appended record
+     */
+    public Position append(byte[] key, byte[] value) {
+        int bodyLength = 2 + key.length + (value == null ? 0 : value.length);
+        int recordLength = RECORD_HEADER_SIZE + bodyLength;
+        if (recordLength > segmentSize) {
+            throw new IllegalArgumentException("Record of " + recordLength + " bytes exceeds segment size " + segmentSize);
+        }
+
+        writeLock.lock();
+        try {
+            if (writeBuffer.remaining() < recordLength) {
+                roll();
+            }
+
+            int start = writeBuffer.position();
+            writeBuffer.position(start + RECORD_HEADER_SIZE);
+            writeBuffer.putShort((short) (value == null ? ~key.length : key.length));
+            writeBuffer.put(key);
+            if (value != null) {
+                writeBuffer.put(value);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(writeBuffer.duplicate().position(start + RECORD_HEADER_SIZE).limit(start + recordLength));
+            writeBuffer.putInt(start + 4, (int) crc.getValue());
+            // Length is written last: a non-zero length means the record is complete
+            writeBuffer.putInt(start, bodyLength);
+
+            Position end = new Position(writeSegment, start + recordLength);
+            head = end;
+            return end;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Flush records up to the given position to the storage device (group commit)
+     *
+     * Returns at once if an earlier flush already covered the position; otherwise waits
+     * for the flush in progress, then flushes everything appended so far in one go.
+     */
+    public void force(Position upTo) {
+        if (upTo.isAtOrBefore(durable)) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (upTo.isAtOrBefore(durable)) {
+                return;
+            }
+
+            MappedByteBuffer buffer;
+            Position target;
+            writeLock.lock();
+            try {
+                buffer = writeBuffer;
+                target = head;
+            } finally {
+                writeLock.unlock();
+            }
+
+            // Earlier segments were forced when the log rolled past them; only the dirty
+            // range of the current segment is left. Appends carry on meanwhile.
+            Position from = durable;
+            int start = from.segment() == target.segment() ? from.offset() : 0;
+            buffer.force(start, target.offset() - start);
+            durable = target;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Position up to which records are known to be on the storage device
+     */
+    public Position durable() {
+        return durable;
+    }
+
+    /**
+     * Read up to maxRecords records starting at the given position, never past the head
+     */
+    public List<Entry> read(Position from, int maxRecords) {
+        Position end = head;
+        List<Entry> entries = new ArrayList<>(Math.min(maxRecords, 1024));
+        long segment = from.segment();
+        int offset = from.offset();
+
+        while (entries.size() < maxRecords && (segment < end.segment() || offset < end.offset())) {
+            ByteBuffer buffer = readBuffer(segment, end);
+            int bodyLength = offset + RECORD_HEADER_SIZE <= segmentSize ? buffer.getInt(offset) : 0;
+            if (bodyLength == 0) {
+                // Rest of this segment is unused; continue at the start of the next one
+                segment++;
+                offset = 0;
+                continue;
+            }
+
+            buffer.position(offset + RECORD_HEADER_SIZE);
+            short keyField = buffer.getShort();
+            byte[] key = new byte[keyField < 0 ? ~keyField : keyField];
+            buffer.get(key);
+            byte[] value = null;
+            if (keyField >= 0) {
+                value = new byte[bodyLength - 2 - key.length];
+                buffer.get(value);
+            }
+            offset += RECORD_HEADER_SIZE + bodyLength;
+            entries.add(new Entry(key, value, new Position(segment, offset)));
+        }
+        return entries;
+    }
+
+    /**
+     * Durably record that everything before the position has been relayed
+     */
+    public void commit(Position position) {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try {
+            ByteBuffer data = ByteBuffer.allocate(12).putLong(position.segment()).putInt(position.offset()).flip();
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(data);
+                channel.force(true);
+            }
+            Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write outbox checkpoint", e);
+        }
+        committed = position;
+        deleteSegmentsBefore(position.segment());
+    }
+
+    public Position committed() {
+        return committed;
+    }
+
+    public Position head() {
+        return head;
+    }
+
+    /**
+     * Approximate bytes appended but not yet committed
+     */
+    public long backlogBytes() {
+        Position from = committed;
+        Position to = head;
+        return (to.segment() - from.segment()) * segmentSize + to.offset() - from.offset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            writeBuffer.force();
+            writeChannel.close();
+            readMappings.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void roll() {
+        try {
+            writeBuffer.force();
+            writeChannel.close();
+            openWriteSegment(writeSegment + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll outbox segment", e);
+        }
+    }
+
+    private void openWriteSegment(long segment) throws IOException {
+        writeChannel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        writeBuffer = writeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        writeSegment = segment;
+    }
+
+    private ByteBuffer readBuffer(long segment, Position end) {
+        if (segment == end.segment()) {
+            writeLock.lock();
+            try {
+                if (segment == writeSegment) {
+                    return writeBuffer.duplicate();
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return readMappings.computeIfAbsent(segment, this::mapReadOnly).duplicate();
+    }
+
+    private MappedByteBuffer mapReadOnly(long segment) {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map outbox segment " + segment, e);
+        }
+    }
+
+    /**
+     * Walk the records of a segment and return the offset after the last intact one
+     */
+    private int recoverTail(ByteBuffer buffer) {
+        int offset = 0;
+        while (offset + RECORD_HEADER_SIZE <= segmentSize) {
+            int bodyLength = buffer.getInt(offset);
+            if (bodyLength <= 0 || offset + RECORD_HEADER_SIZE + bodyLength > segmentSize) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            int bodyStart = offset + RECORD_HEADER_SIZE;
+            crc.update(buffer.duplicate().position(bodyStart).limit(bodyStart + bodyLength));
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                log.warn("⚠️ [MuleSoft Persistent Queue] Dropping torn outbox record at segment {} offset {}",
+                        writeSegment, offset);
+                break;
+            }
+            offset = bodyStart + bodyLength;
+        }
+        // Zero out anything after the last intact record so readers stop there
+        for (int i = offset; i < Math.min(segmentSize, offset + RECORD_HEADER_SIZE); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        return offset;
+    }
+
+    private Position readCheckpoint(long firstSegment) throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return new Position(firstSegment, 0);
+        }
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(checkpoint));
+        return new Position(data.getLong(), data.getInt());
+    }
+
+    private void deleteSegmentsBefore(long segment) {
+        try {
+            for (Long candidate : listSegments()) {
+                if (candidate < segment) {
+                    readMappings.remove(candidate);
+                    Files.deleteIfExists(segmentPath(candidate));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ [MuleSoft Persistent Queue] Failed to delete consumed outbox segments: {}", e.getMessage());
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%020d%s", segment, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.integrationservice.outbox;
+
+import com.example.integrationservice.config.KafkaConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background relay from the local outbox to Kafka
+ * Equivalent to a MuleSoft VM Listener flow forwarding a persistent queue to JMS/Kafka
+ *
+ * Each run sends batches from the committed position, waits for the broker to acknowledge
+ * the whole batch, then checkpoints past it. A failed batch is left uncommitted and retried
+ * on the next run, so a broker outage only grows the backlog. Values are the wire bytes
+ * stored by CustomerEventOutbox and go out through a byte[] template unchanged.
+ *
+ * A run never holds the scheduler thread indefinitely: the relay's producer bounds
+ * max.block.ms, a send that fails in place stops the batch, and the acknowledgement wait
+ * shares one deadline with the sends.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final CustomerEventOutbox outbox;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final Counter relayed;
+    private final Counter relayFailures;
+
+    public OutboxRelay(
+            CustomerEventOutbox outbox,
+            KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+            @Value("${integration.outbox.relay-batch-size:500}") int batchSize,
+            @Value("${integration.outbox.relay-send-timeout-ms:30000}") long sendTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.kafkaTemplate = outboxKafkaTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.relayed = Counter.builder("outbox.events.relayed")
+                .description("Outbox events acknowledged by Kafka and checkpointed")
+                .register(meterRegistry);
+        this.relayFailures = Counter.builder("kafka.publish.failures")
+                .description("Failed Kafka sends")
+                .tag("mode", "outbox-relay")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${integration.outbox.relay-interval-ms:50}")
+    public void relay() {
+        if (!outbox.isEnabled()) {
+            return;
+        }
+
+        OutboxLog outboxLog = outbox.outboxLog();
+        List<OutboxLog.Entry> batch;
+        do {
+            batch = outboxLog.read(outboxLog.committed(), batchSize);
+            if (batch.isEmpty() || !send(batch)) {
+                return;
+            }
+            outboxLog.commit(batch.get(batch.size() - 1).next());
+            relayed.increment(batch.size());
+        } while (batch.size() == batchSize);
+    }
+
+    private boolean send(List<OutboxLog.Entry> batch) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        try {
+            // A synchronous send failure (serialization, buffer full, closed producer) is
+            // handled like a failed acknowledgement: counted, and the batch retried
+            CompletableFuture<?>[] futures = new CompletableFuture[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                OutboxLog.Entry entry = batch.get(i);
+                futures[i] = kafkaTemplate.send(KafkaConfig.CUSTOMER_EVENTS_TOPIC,
+                        new String(entry.key(), StandardCharsets.UTF_8), entry.value());
+                if (futures[i].isCompletedExceptionally()) {
+                    // The producer fails a send in place once max.block.ms is exceeded; stop
+                    // rather than wait that long again for every remaining record
+                    futures[i].join();
+                }
+            }
+            CompletableFuture.allOf(futures).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            log.debug("📤 [MuleSoft VM Publish - Outbox] Relayed {} customer events", batch.size());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            relayFailures.increment();
+            log.error("❌ [MuleSoft Error Handler] Outbox relay of {} events failed, will retry: {}",
+                    batch.size(), e.getMessage());
+            return false;
+        }
+    }
+}
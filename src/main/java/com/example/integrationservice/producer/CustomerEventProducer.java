@@ -2,12 +2,16 @@ package com.example.integrationservice.producer;
 
 import com.example.integrationservice.config.KafkaConfig;
 import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.outbox.CustomerEventOutbox;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -18,6 +22,11 @@ import java.util.concurrent.CompletableFuture;
  * - VM Publish / JMS Send → KafkaTemplate.send()
  * - Queue/Topic configuration → Kafka topic
  * - Async publish with callback → CompletableFuture
+ * - Non-blocking publish in reactive flows → Mono
+ * - Batch publish → back-to-back sends completed together
+ * - Persistent queue → CustomerEventOutbox (when integration.outbox.enabled=true every
+ *   publish method appends to the local outbox and OutboxRelay delivers to Kafka)
+ * - Failed sends are counted in kafka.publish.failures{mode}
  */
 @Slf4j
 @Component
@@ -25,6 +34,8 @@ import java.util.concurrent.CompletableFuture;
 public class CustomerEventProducer {
 
     private final KafkaTemplate<String, CustomerResponse> kafkaTemplate;
+    private final CustomerEventOutbox outbox;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Publish customer event to Kafka topic
@@ -39,18 +50,24 @@ public class CustomerEventProducer {
     public void publishCustomerEvent(CustomerResponse customerResponse) {
         String key = String.valueOf(customerResponse.getCustomerId());
         
-        log.info("📤 [MuleSoft VM Publish] Publishing event for customer ID: {}", key);
+        log.debug("📤 [MuleSoft VM Publish] Publishing event for customer ID: {}", key);
+        
+        if (outbox.isEnabled()) {
+            outbox.append(customerResponse, false);
+            return;
+        }
         
         CompletableFuture<SendResult<String, CustomerResponse>> future = 
                 kafkaTemplate.send(KafkaConfig.CUSTOMER_EVENTS_TOPIC, key, customerResponse);
         
         future.whenComplete((result, ex) -> {
             if (ex == null) {
-                log.info("✅ [MuleSoft VM Publish] Successfully published event for customer {}: partition={}, offset={}", 
+                log.debug("✅ [MuleSoft VM Publish] Successfully published event for customer {}: partition={}, offset={}", 
                         key,
                         result.getRecordMetadata().partition(),
                         result.getRecordMetadata().offset());
             } else {
+                recordFailure("fire-and-forget");
                 log.error("❌ [MuleSoft Error Handler] Failed to publish event for customer {}: {}", 
                         key, ex.getMessage());
             }
@@ -60,25 +77,134 @@ public class CustomerEventProducer {
     /**
      * Synchronous publish with error handling
      * Useful when you need to ensure message is sent before proceeding
+     * With the outbox enabled, returns once the event is flushed to local disk instead of
+     * waiting on the broker
      */
     public void publishCustomerEventSync(CustomerResponse customerResponse) {
         String key = String.valueOf(customerResponse.getCustomerId());
         
-        log.info("📤 [MuleSoft VM Publish - Sync] Publishing event for customer ID: {}", key);
+        log.debug("📤 [MuleSoft VM Publish - Sync] Publishing event for customer ID: {}", key);
+        
+        if (outbox.isEnabled()) {
+            outbox.append(customerResponse, true);
+            return;
+        }
         
         try {
             SendResult<String, CustomerResponse> result = 
                     kafkaTemplate.send(KafkaConfig.CUSTOMER_EVENTS_TOPIC, key, customerResponse)
                             .get(); // Block until complete
             
-            log.info("✅ [MuleSoft VM Publish] Successfully published event for customer {}: partition={}, offset={}", 
+            log.debug("✅ [MuleSoft VM Publish] Successfully published event for customer {}: partition={}, offset={}", 
                     key,
                     result.getRecordMetadata().partition(),
                     result.getRecordMetadata().offset());
         } catch (Exception e) {
+            recordFailure("sync");
             log.error("❌ [MuleSoft Error Handler] Failed to publish event for customer {}: {}", 
                     key, e.getMessage());
             throw new RuntimeException("Failed to publish customer event", e);
         }
     }
+
+    /**
+     * Reactive publish - bridges the KafkaTemplate future into a Mono
+     * The Mono completes once the broker acknowledges the record (or the outbox has it),
+     * without parking the caller's thread
+     *
+     * @param customerResponse Transformed customer data to publish
+     * @return Mono completing when the event is accepted
+     */
+    public Mono<Void> publishCustomerEventAsync(CustomerResponse customerResponse) {
+        String key = String.valueOf(customerResponse.getCustomerId());
+
+        log.debug("📤 [MuleSoft VM Publish - Async] Publishing event for customer ID: {}", key);
+
+        if (outbox.isEnabled()) {
+            return Mono.fromRunnable(() -> outbox.append(customerResponse, false));
+        }
+
+        return Mono.fromFuture(() -> kafkaTemplate.send(KafkaConfig.CUSTOMER_EVENTS_TOPIC, key, customerResponse))
+                .doOnSuccess(result -> log.debug("✅ [MuleSoft VM Publish] Successfully published event for customer {}: partition={}, offset={}",
+                        key,
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset()))
+                .doOnError(ex -> {
+                    recordFailure("async");
+                    log.error("❌ [MuleSoft Error Handler] Failed to publish event for customer {}: {}",
+                            key, ex.getMessage());
+                })
+                .then();
+    }
+
+    /**
+     * Batch publish for multi-customer flows
+     *
+     * All records are handed to the producer back-to-back without waiting on individual
+     * acknowledgements, so they are accumulated into the producer's per-partition batches
+     * and go out in a few requests instead of N round trips. The Mono completes once the
+     * whole set has been acknowledged.
+     *
+     * @param customerResponses Transformed customers to publish
+     * @return Mono completing when every record is acknowledged
+     */
+    public Mono<Void> publishCustomerEvents(List<CustomerResponse> customerResponses) {
+        if (customerResponses.isEmpty()) {
+            return Mono.empty();
+        }
+
+        log.info("📤 [MuleSoft VM Publish - Batch] Publishing {} customer events", customerResponses.size());
+
+        if (outbox.isEnabled()) {
+            return Mono.fromRunnable(() -> outbox.appendAll(customerResponses));
+        }
+
+        return Mono.defer(() -> {
+                    CompletableFuture<?>[] futures = customerResponses.stream()
+                            .map(customerResponse -> kafkaTemplate.send(KafkaConfig.CUSTOMER_EVENTS_TOPIC,
+                                    String.valueOf(customerResponse.getCustomerId()), customerResponse))
+                            .toArray(CompletableFuture[]::new);
+                    return Mono.fromFuture(CompletableFuture.allOf(futures));
+                })
+                .doOnSuccess(ignored -> log.info("✅ [MuleSoft VM Publish - Batch] Successfully published {} customer events",
+                        customerResponses.size()))
+                .doOnError(ex -> {
+                    recordFailure("batch");
+                    log.error("❌ [MuleSoft Error Handler] Failed to publish customer event batch: {}",
+                            ex.getMessage());
+                });
+    }
+
+    /**
+     * Publish a tombstone (null value) for the customer
+     *
+     * On the compacted topic this deletes the customer's event: every replica drops it from
+     * its local store and its L1 cache. With the outbox enabled the tombstone is queued
+     * behind any events for the customer still waiting there, so none of them can be relayed
+     * after it and bring the customer back.
+     *
+     * @param customerId Customer to invalidate
+     * @return Mono completing when the broker acknowledges the tombstone (or the outbox has it)
+     */
+    public Mono<Void> publishTombstone(Long customerId) {
+        String key = String.valueOf(customerId);
+
+        log.info("📤 [MuleSoft VM Publish - Tombstone] Invalidating customer ID: {}", key);
+
+        if (outbox.isEnabled()) {
+            return Mono.fromRunnable(() -> outbox.appendTombstone(customerId));
+        }
+
+        return Mono.fromFuture(() -> kafkaTemplate.send(KafkaConfig.CUSTOMER_EVENTS_TOPIC, key, null))
+                .doOnError(ex -> {
+                    recordFailure("tombstone");
+                    log.error("❌ [MuleSoft Error Handler] Failed to publish invalidation for customer {}: {}",
+                            key, ex.getMessage());
+                })
+                .then();
+    }
+
+    private void recordFailure(String mode) {
+        meterRegistry.counter("kafka.publish.failures", "mode", mode).increment();
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.integrationservice.serialization;
+
+import com.example.integrationservice.model.CustomerResponse;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Customer event deserializer that accepts both wire formats on the same topic
+ *
+ * Records starting with the Avro magic byte are decoded with the writer schema looked up
+ * by ID (resolved against the current reader schema); anything else is treated as JSON.
+ * This lets consumers read the topic while producers migrate between formats.
+ */
+public class CustomerEventDeserializer implements Deserializer<CustomerResponse> {
+
+    private static final int HEADER_SIZE = 5;
+
+    private final JsonDeserializer<CustomerResponse> jsonDeserializer =
+            new JsonDeserializer<>(CustomerResponse.class, false);
+
+    @Override
+    public CustomerResponse deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        if (data[0] != CustomerEventAvroSerializer.MAGIC_BYTE) {
+            return jsonDeserializer.deserialize(topic, data);
+        }
+        if (data.length < HEADER_SIZE) {
+            throw new SerializationException("Truncated Avro customer event (" + data.length + " bytes)");
+        }
+
+        int schemaId = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+        Schema writerSchema = LocalSchemaRegistry.getInstance().getById(schemaId);
+
+        try {
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE, null);
+            GenericRecord record = new GenericDatumReader<GenericRecord>(writerSchema, CustomerEventSchema.SCHEMA)
+                    .read(null, decoder);
+            return CustomerEventSchema.fromRecord(record);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize Avro customer event", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.integrationservice.serialization;
+
+import com.example.integrationservice.model.CustomerResponse;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Wire format for records on the customer-events topic, selected with integration.kafka.serialization
+ * Both formats are read by CustomerEventDeserializer.
+ */
+public enum CustomerEventFormat {
+
+    /** Self-describing JSON via Spring's JsonSerializer - readable, larger */
+    JSON(JsonSerializer.class),
+
+    /** Schema-based Avro binary with a schema ID header - compact, cheaper to encode */
+    AVRO(CustomerEventAvroSerializer.class);
+
+    private final Class<? extends Serializer> serializerClass;
+
+    CustomerEventFormat(Class<? extends Serializer> serializerClass) {
+        this.serializerClass = serializerClass;
+    }
+
+    public Class<? extends Serializer> serializerClass() {
+        return serializerClass;
+    }
+
+    /**
+     * Serializer instance for code that encodes events itself (the outbox stores wire bytes)
+     */
+    @SuppressWarnings("unchecked")
+    public Serializer<CustomerResponse> newSerializer() {
+        return (Serializer<CustomerResponse>) BeanUtils.instantiateClass(serializerClass);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.integrationservice.serialization;
+
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.model.CustomerResponse;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Avro schema for customer events and the mapping to and from CustomerResponse
+ *
+ * Loaded from avro/customer-response.avsc and registered with the LocalSchemaRegistry
+ * under the customer-events-value subject when the class is first used.
+ */
+public final class CustomerEventSchema {
+
+    public static final String SUBJECT = KafkaConfig.CUSTOMER_EVENTS_TOPIC + "-value";
+    public static final Schema SCHEMA = load("/avro/customer-response.avsc");
+    public static final int SCHEMA_ID = LocalSchemaRegistry.getInstance().register(SUBJECT, SCHEMA);
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private CustomerEventSchema() {
+    }
+
+    public static GenericRecord toRecord(CustomerResponse response) {
+        GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("customerId", response.getCustomerId());
+        record.put("fullName", response.getFullName());
+        record.put("email", response.getEmail());
+        record.put("phoneNumber", response.getPhoneNumber());
+        record.put("customerAge", response.getCustomerAge());
+        record.put("location", response.getLocation());
+        record.put("companyName", response.getCompanyName());
+        record.put("jobTitle", response.getJobTitle());
+        record.put("loyaltyScore", response.getLoyaltyScore());
+        record.put("processedAt", response.getProcessedAt() != null
+                ? ChronoUnit.MICROS.between(EPOCH, response.getProcessedAt())
+                : null);
+        record.put("status", response.getStatus());
+        return record;
+    }
+
+    public static CustomerResponse fromRecord(GenericRecord record) {
+        Long processedAtMicros = (Long) record.get("processedAt");
+        return CustomerResponse.builder()
+                .customerId((Long) record.get("customerId"))
+                .fullName(string(record, "fullName"))
+                .email(string(record, "email"))
+                .phoneNumber(string(record, "phoneNumber"))
+                .customerAge((Integer) record.get("customerAge"))
+                .location(string(record, "location"))
+                .companyName(string(record, "companyName"))
+                .jobTitle(string(record, "jobTitle"))
+                .loyaltyScore(string(record, "loyaltyScore"))
+                .processedAt(processedAtMicros != null ? EPOCH.plus(processedAtMicros, ChronoUnit.MICROS) : null)
+                .status(string(record, "status"))
+                .build();
+    }
+
+    private static String string(GenericRecord record, String field) {
+        Object value = record.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    private static Schema load(String resource) {
+        try (InputStream in = CustomerEventSchema.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing Avro schema " + resource);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load Avro schema " + resource, e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.integrationservice.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for a schema registry
+ * Equivalent to an Anypoint Exchange schema asset, without a server to run
+ *
+ * Schema IDs are derived from the schema's canonical-form fingerprint, so every process
+ * that ships the same .avsc agrees on the ID without talking to each other. Records carry
+ * the Confluent wire format (magic byte + 4-byte schema ID), so switching to a real
+ * registry later only changes how IDs are resolved.
+ */
+public final class LocalSchemaRegistry {
+
+    private static final LocalSchemaRegistry INSTANCE = new LocalSchemaRegistry();
+
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+    private final Map<String, Integer> latestIdBySubject = new ConcurrentHashMap<>();
+
+    private LocalSchemaRegistry() {
+    }
+
+    public static LocalSchemaRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register a schema under a subject and return its ID; re-registering is a no-op
+     */
+    public int register(String subject, Schema schema) {
+        int id = (int) SchemaNormalization.parsingFingerprint64(schema);
+        Schema existing = schemasById.putIfAbsent(id, schema);
+        if (existing != null && !SchemaNormalization.toParsingForm(existing).equals(SchemaNormalization.toParsingForm(schema))) {
+            throw new IllegalStateException("Schema ID collision for subject " + subject + ": " + id);
+        }
+        latestIdBySubject.put(subject, id);
+        return id;
+    }
+
+    public Schema getById(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema == null) {
+            throw new SerializationException("Unknown schema ID " + id);
+        }
+        return schema;
+    }
+
+    public Integer getLatestId(String subject) {
+        return latestIdBySubject.get(subject);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.integrationservice.service;
+
+import com.example.integrationservice.exception.CustomerNotFoundException;
+import com.example.integrationservice.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Timers for the integration flow and each of its steps
+ * Equivalent to MuleSoft Anypoint Monitoring flow/processor metrics
+ *
+ * - integration.flow{mode, outcome}: whole flow, mode = blocking | reactive | batch
+ * - integration.flow.step{step, outcome}: step = fetch | publish; fetch includes decoding the
+ *   upstream response into CustomerResponse, which is where the DataWeave mapping runs
+ *
+ * Both publish percentile histograms, so p50/p95/p99 per step can be derived in Prometheus.
+ * Outcome is success, not_found, upstream_error, upstream_unavailable or error.
+ *
+ * Each step also runs in its own trace span (flow.fetch, flow.publish) under
+ * the current request span, so a slow trace shows which stage the time went to.
+ */
+@Component
+public class FlowMetrics {
+
+    public static final String MODE_BLOCKING = "blocking";
+    public static final String MODE_REACTIVE = "reactive";
+    public static final String MODE_BATCH = "batch";
+
+    public static final String STEP_FETCH = "fetch";
+    public static final String STEP_PUBLISH = "publish";
+
+    static final String OUTCOME_SUCCESS = "success";
+
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+
+    public FlowMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, Tracer.NOOP);
+    }
+
+    @Autowired
+    public FlowMetrics(MeterRegistry meterRegistry, ObjectProvider<Tracer> tracer) {
+        this(meterRegistry, tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    FlowMetrics(MeterRegistry meterRegistry, Tracer tracer) {
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Stop a whole-flow sample
+     *
+     * @param error Failure of the flow, or null on success
+     */
+    public void stopFlow(Timer.Sample sample, String mode, Throwable error) {
+        sample.stop(Timer.builder("integration.flow")
+                .description("End-to-end integration flow time")
+                .tag("mode", mode)
+                .tag("outcome", outcome(error))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * Time a blocking step; the outcome tag reflects any exception thrown
+     */
+    public <T> T timeStep(String step, Supplier<T> body) {
+        Timer.Sample sample = start();
+        Span span = startSpan(step);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            T result = body.get();
+            stopStep(sample, span, step, null);
+            return result;
+        } catch (RuntimeException e) {
+            stopStep(sample, span, step, e);
+            throw e;
+        }
+    }
+
+    public void runStep(String step, Runnable body) {
+        timeStep(step, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Time a reactive step from subscription to completion or error
+     */
+    public <T> Mono<T> timeStep(String step, Mono<T> body) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = start();
+            Span span = startSpan(step);
+            return body
+                    .doOnSuccess(result -> stopStep(sample, span, step, null))
+                    .doOnError(e -> stopStep(sample, span, step, e))
+                    .doOnCancel(span::end);
+        });
+    }
+
+    /**
+     * Time a reactive flow from subscription to completion or error
+     */
+    public <T> Mono<T> timeFlow(String mode, Mono<T> flow) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = start();
+            return flow
+                    .doOnSuccess(result -> stopFlow(sample, mode, null))
+                    .doOnError(e -> stopFlow(sample, mode, e));
+        });
+    }
+
+    private Span startSpan(String step) {
+        return tracer.nextSpan().name("flow." + step).start();
+    }
+
+    private void stopStep(Timer.Sample sample, Span span, String step, Throwable error) {
+        String outcome = outcome(error);
+        span.tag("outcome", outcome);
+        if (error != null) {
+            span.error(error);
+        }
+        span.end();
+
+        sample.stop(Timer.builder("integration.flow.step")
+                .description("Time spent in one integration flow step")
+                .tag("step", step)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    static String outcome(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UpstreamUnavailableException) {
+                return "upstream_unavailable";
+            }
+            if (cause instanceof CustomerNotFoundException || cause instanceof WebClientResponseException.NotFound) {
+                return "not_found";
+            }
+            if (cause instanceof WebClientResponseException) {
+                return "upstream_error";
+            }
+        }
+        return error == null ? OUTCOME_SUCCESS : "error";
+    }
+}
@@ -1,13 +1,28 @@
 package com.example.integrationservice.service;
 
+import com.example.integrationservice.cache.CustomerCache;
 import com.example.integrationservice.client.ExternalApiClient;
-import com.example.integrationservice.mapper.CustomerMapper;
-import com.example.integrationservice.model.Customer;
+import com.example.integrationservice.exception.ConcurrencyLimitExceededException;
+import com.example.integrationservice.exception.CustomerNotFoundException;
+import com.example.integrationservice.exception.UpstreamUnavailableException;
+import com.example.integrationservice.limit.PriorityLane;
+import com.example.integrationservice.limit.PriorityLaneLimiter;
+import com.example.integrationservice.model.BatchCustomerResponse;
+import com.example.integrationservice.model.BatchCustomerResult;
 import com.example.integrationservice.model.CustomerResponse;
 import com.example.integrationservice.producer.CustomerEventProducer;
+import com.example.integrationservice.store.CustomerStore;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Integration Service - Core business logic
@@ -15,9 +30,14 @@ import org.springframework.stereotype.Service;
  * 
  * Maps to MuleSoft concepts:
  * - MuleSoft Flow → Service method orchestrating the entire flow
- * - DataWeave Transform → CustomerMapper (separate mapper class)
+ * - DataWeave Transform → CustomerMapper rules, applied while decoding the upstream response
  * - Flow steps → Method calls with logging
  * - Variables → Method local variables
+ * - Cache Scope → CustomerCache in front of the external API
+ * - Object Store → CustomerStore, the local read model of published events, consulted first
+ * - SLA tiers → PriorityLaneLimiter budgets around every upstream call, per caller lane
+ * - Non-blocking flow → Reactive pipeline returning Mono
+ * - Flow/processor monitoring → FlowMetrics timers per flow and per step
  */
 @Slf4j
 @Service
@@ -26,54 +46,249 @@ public class IntegrationService {
 
     private final ExternalApiClient externalApiClient;
     private final CustomerEventProducer customerEventProducer;
-    private final CustomerMapper customerMapper;
+    private final CustomerCache customerCache;
+    private final CustomerStore customerStore;
+    private final FlowMetrics flowMetrics;
+    private final PriorityLaneLimiter priorityLaneLimiter;
+
+    /**
+     * Virtual-thread execution mode: the request thread is cheap to park, so the flow
+     * publishes synchronously and only returns once Kafka has acknowledged the event
+     */
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Batch flow tuning: how many upstream lookups run concurrently, and the largest accepted batch
+     */
+    @Value("${integration.batch.parallelism:16}")
+    private int batchParallelism = 16;
+
+    @Value("${integration.batch.max-size:500}")
+    private int batchMaxSize = 500;
+
+    /**
+     * Main integration flow for an interactive caller
+     *
+     * @see #processCustomer(Long, PriorityLane)
+     */
+    public CustomerResponse processCustomer(Long customerId) {
+        return processCustomer(customerId, PriorityLane.INTERACTIVE);
+    }
 
     /**
      * Main integration flow
      * 
      * MuleSoft Flow equivalent:
      * 1. HTTP Listener (entry point)
-     * 2. HTTP Request (fetch data)
-     * 3. DataWeave Transform (transform data)
-     * 4. VM Publish / JMS Send (publish to queue)
-     * 5. Logger (log results)
-     * 6. Return response
+     * 2. HTTP Request + DataWeave Transform (fetch data, projected while decoding)
+     * 3. VM Publish / JMS Send (publish to queue)
+     * 4. Logger (log results)
+     * 5. Return response
+     * 
+     * When the local CustomerStore already holds the customer's published event, that event
+     * is returned straight away: no upstream call or publish.
+     * Only a cache miss goes upstream, inside the caller's lane budget.
      * 
      * @param customerId Customer ID from request
+     * @param lane Caller's priority lane
      * @return Transformed customer response
      */
-    public CustomerResponse processCustomer(Long customerId) {
-        log.info("🌊 [MuleSoft Flow START] Processing customer ID: {}", customerId);
+    public CustomerResponse processCustomer(Long customerId, PriorityLane lane) {
+        log.debug("🌊 [MuleSoft Flow START] Processing customer ID: {}", customerId);
+        Timer.Sample flowSample = flowMetrics.start();
         
         try {
-            // Step 1: Fetch customer data from external API
-            // Equivalent to MuleSoft HTTP Request Connector
-            log.info("📍 [MuleSoft Flow - Step 1] Calling external API...");
-            Customer customer = externalApiClient.getCustomerById(customerId);
-            
-            // Step 2: Transform the data
-            // Equivalent to MuleSoft DataWeave Transformer
-            log.info("📍 [MuleSoft Flow - Step 2] Transforming customer data using CustomerMapper (DataWeave equivalent)...");
-            CustomerResponse transformedCustomer = customerMapper.toCustomerResponse(customer);
+            // Step 0: Answer from the local customer store when it already holds the published event
+            // Equivalent to MuleSoft Object Store retrieve
+            Optional<CustomerResponse> stored = customerStore.find(customerId);
+            if (stored.isPresent()) {
+                log.debug("🗄️ [MuleSoft Object Store] Served customer {} from the local store", customerId);
+                flowMetrics.stopFlow(flowSample, FlowMetrics.MODE_BLOCKING, null);
+                return stored.get();
+            }
+
+            // Step 1: Fetch and transform customer data from external API
+            // Equivalent to MuleSoft HTTP Request Connector wrapped in a Cache Scope, with the
+            // DataWeave transform streamed over the response (CustomerProjectionDecoder)
+            log.debug("📍 [MuleSoft Flow - Step 1] Calling external API...");
+            CustomerResponse transformedCustomer = flowMetrics.timeStep(FlowMetrics.STEP_FETCH,
+                    () -> customerCache.get(customerId, id -> priorityLaneLimiter.execute(lane,
+                            () -> externalApiClient.getCustomerById(id))));
             
-            // Step 3: Publish to Kafka
+            // Step 2: Publish to Kafka
             // Equivalent to MuleSoft VM Publish or JMS Send
-            log.info("📍 [MuleSoft Flow - Step 3] Publishing to Kafka topic...");
-            customerEventProducer.publishCustomerEvent(transformedCustomer);
+            log.debug("📍 [MuleSoft Flow - Step 2] Publishing to Kafka topic...");
+            flowMetrics.runStep(FlowMetrics.STEP_PUBLISH, () -> {
+                if (virtualThreads) {
+                    customerEventProducer.publishCustomerEventSync(transformedCustomer);
+                } else {
+                    customerEventProducer.publishCustomerEvent(transformedCustomer);
+                }
+            });
             
-            // Step 4: Log success
+            // Step 3: Log success
             // Equivalent to MuleSoft Logger component
-            log.info("✅ [MuleSoft Logger] Successfully processed customer: {}", 
+            log.debug("✅ [MuleSoft Logger] Successfully processed customer: {}", 
                     transformedCustomer.getFullName());
             log.info("🌊 [MuleSoft Flow END] Completed processing for customer ID: {}", customerId);
+            flowMetrics.stopFlow(flowSample, FlowMetrics.MODE_BLOCKING, null);
             
             return transformedCustomer;
             
+        } catch (UpstreamUnavailableException | CustomerNotFoundException | ConcurrencyLimitExceededException e) {
+            // Circuit breaker / bulkhead fast-fail (503), unknown IDs (404) and shed lanes (429/503) are surfaced as-is
+            flowMetrics.stopFlow(flowSample, FlowMetrics.MODE_BLOCKING, e);
+            throw e;
         } catch (Exception e) {
+            flowMetrics.stopFlow(flowSample, FlowMetrics.MODE_BLOCKING, e);
             // Equivalent to MuleSoft Error Handler
             log.error("❌ [MuleSoft Error Handler] Error in flow for customer {}: {}", 
                     customerId, e.getMessage(), e);
             throw new RuntimeException("Integration flow failed for customer " + customerId, e);
         }
     }
+
+    /**
+     * Reactive integration flow for an interactive caller
+     *
+     * @see #processCustomerAsync(Long, PriorityLane)
+     */
+    public Mono<CustomerResponse> processCustomerAsync(Long customerId) {
+        return processCustomerAsync(customerId, PriorityLane.INTERACTIVE);
+    }
+
+    /**
+     * Reactive integration flow
+     *
+     * Same steps as {@link #processCustomer(Long, PriorityLane)}, but composed as a non-blocking pipeline:
+     * no thread is parked while waiting on the external API or the Kafka acknowledgement,
+     * so concurrency is no longer capped by the servlet thread pool when the upstream is slow.
+     *
+     * @param customerId Customer ID from request
+     * @param lane Caller's priority lane
+     * @return Mono emitting the transformed customer response
+     */
+    public Mono<CustomerResponse> processCustomerAsync(Long customerId, PriorityLane lane) {
+        log.debug("🌊 [MuleSoft Flow START - Async] Processing customer ID: {}", customerId);
+
+        // Step 1: Fetch and transform customer data (HTTP Request Connector in a Cache Scope)
+        Mono<CustomerResponse> upstreamFlow = flowMetrics.timeStep(FlowMetrics.STEP_FETCH,
+                        customerCache.getAsync(customerId, id -> upstream(lane, id)))
+                // Step 2: Publish to Kafka (VM Publish / JMS Send) and resume once acknowledged
+                .flatMap(transformedCustomer -> flowMetrics.timeStep(FlowMetrics.STEP_PUBLISH,
+                                customerEventProducer.publishCustomerEventAsync(transformedCustomer))
+                        .thenReturn(transformedCustomer))
+                // Step 3: Log success (Logger component)
+                .doOnNext(transformedCustomer -> {
+                    log.debug("✅ [MuleSoft Logger] Successfully processed customer: {}",
+                            transformedCustomer.getFullName());
+                    log.info("🌊 [MuleSoft Flow END - Async] Completed processing for customer ID: {}", customerId);
+                });
+
+        // Step 0: Answer from the local customer store first (Object Store retrieve)
+        Mono<CustomerResponse> flow = Mono.defer(() -> Mono.justOrEmpty(customerStore.find(customerId)))
+                .switchIfEmpty(upstreamFlow);
+
+        return flowMetrics.timeFlow(FlowMetrics.MODE_REACTIVE, flow)
+                .onErrorMap(e -> !(e instanceof UpstreamUnavailableException || e instanceof CustomerNotFoundException
+                        || e instanceof ConcurrencyLimitExceededException), e -> {
+                    // Equivalent to MuleSoft Error Handler
+                    log.error("❌ [MuleSoft Error Handler] Error in async flow for customer {}: {}",
+                            customerId, e.getMessage(), e);
+                    return new RuntimeException("Integration flow failed for customer " + customerId, e);
+                });
+    }
+
+    /**
+     * Batch integration flow
+     *
+     * MuleSoft equivalent: Batch Job with a parallel-for-each over the IDs
+     * 1. Fan out to the external API with bounded parallelism; each customer is
+     *    transformed while its response is decoded
+     * 2. Publish all successful transformations as one producer batch
+     *
+     * Results keep the order of the requested IDs; a failing lookup becomes a
+     * per-item status instead of failing the whole batch. Upstream lookups run in the bulk
+     * lane, so under pressure they are shed (status "failed") before interactive calls.
+     * Parallelism is capped at the current bulk budget, so on an idle service a batch never
+     * sheds its own lookups.
+     *
+     * @param customerIds Customer IDs to process
+     * @return Mono emitting the ordered batch response
+     */
+    public Mono<BatchCustomerResponse> processCustomers(List<Long> customerIds) {
+        if (customerIds == null || customerIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one customer ID is required");
+        }
+        if (customerIds.size() > batchMaxSize) {
+            throw new IllegalArgumentException("Batch size " + customerIds.size()
+                    + " exceeds the maximum of " + batchMaxSize);
+        }
+
+        int parallelism = Math.min(batchParallelism, priorityLaneLimiter.budget(PriorityLane.BULK));
+        log.info("🌊 [MuleSoft Batch Job START] Processing {} customers with parallelism {}",
+                customerIds.size(), parallelism);
+
+        return flowMetrics.timeFlow(FlowMetrics.MODE_BATCH, Flux.fromIterable(customerIds)
+                .flatMapSequential(this::processBatchItem, parallelism)
+                .collectList()
+                .flatMap(results -> {
+                    List<CustomerResponse> transformed = results.stream()
+                            .filter(result -> BatchCustomerResult.STATUS_SUCCESS.equals(result.getStatus()))
+                            .map(BatchCustomerResult::getCustomer)
+                            .toList();
+
+                    BatchCustomerResponse response = BatchCustomerResponse.builder()
+                            .requested(results.size())
+                            .succeeded(transformed.size())
+                            .failed(results.size() - transformed.size())
+                            .results(results)
+                            .build();
+
+                    return flowMetrics.timeStep(FlowMetrics.STEP_PUBLISH,
+                                    customerEventProducer.publishCustomerEvents(transformed))
+                            .thenReturn(response);
+                }))
+                .doOnNext(response -> log.info("🌊 [MuleSoft Batch Job END] {} succeeded, {} failed",
+                        response.getSucceeded(), response.getFailed()));
+    }
+
+    /**
+     * Invalidate a customer across every tier and replica
+     *
+     * MuleSoft equivalent: Object Store remove + Cache Scope invalidate on every worker
+     * 1. Drop it from this replica's L1 cache
+     * 2. Evict it from the shared (L2) cache
+     * 3. Publish a tombstone: other replicas drop their L1 copy, every local store drops the
+     *    event, and compaction removes it from the topic
+     *
+     * @param customerId Customer to invalidate
+     * @return Mono completing once the tombstone is acknowledged
+     */
+    public Mono<Void> invalidateCustomer(Long customerId) {
+        log.info("🧹 [MuleSoft Cache Invalidate] Invalidating customer ID: {} on all replicas", customerId);
+
+        customerCache.invalidate(customerId);
+        return customerCache.evictShared(customerId)
+                .then(customerEventProducer.publishTombstone(customerId));
+    }
+
+    private Mono<BatchCustomerResult> processBatchItem(Long customerId) {
+        return flowMetrics.timeStep(FlowMetrics.STEP_FETCH,
+                        customerCache.getAsync(customerId, id -> upstream(PriorityLane.BULK, id)))
+                .map(transformed -> BatchCustomerResult.success(customerId, transformed))
+                .defaultIfEmpty(BatchCustomerResult.failure(customerId, BatchCustomerResult.STATUS_NOT_FOUND,
+                        "External API returned no data"))
+                .onErrorResume(e -> {
+                    String status = e instanceof CustomerNotFoundException || e instanceof WebClientResponseException.NotFound
+                            ? BatchCustomerResult.STATUS_NOT_FOUND
+                            : BatchCustomerResult.STATUS_FAILED;
+                    return Mono.just(BatchCustomerResult.failure(customerId, status, e.getMessage()));
+                });
+    }
+
+    private Mono<CustomerResponse> upstream(PriorityLane lane, Long customerId) {
+        return priorityLaneLimiter.execute(lane, externalApiClient.getCustomerByIdAsync(customerId));
+    }
 }
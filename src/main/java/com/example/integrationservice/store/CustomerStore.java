@@ -0,0 +1,195 @@
+package com.example.integrationservice.store;
+
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.serialization.CustomerEventDeserializer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Local materialized view of the customer-events topic
+ * Equivalent to MuleSoft Object Store v2 kept in sync from a topic
+ *
+ * The latest event per customer is kept in a memory-mapped record file, located through
+ * an off-heap long → offset index, so the read model holds millions of customers without
+ * heap or GC cost. CustomerStoreLoader replays the (log-compacted) topic into it on every
+ * start and then follows new events; a tombstone removes the customer.
+ *
+ * Lookups only answer once the replay has caught up with the topic; before that, and when
+ * disabled, every lookup misses and the flow goes to the upstream. Events processed more than
+ * max-age ago are not served either, so the flow goes back through the cache and upstream and
+ * upstream changes show up within max-age (the republished event then refreshes the store).
+ * Lookups are counted in customer.store.lookups{result=hit|miss|expired}.
+ *
+ * Each update appends a record; superseded ones are reclaimed at the next start, when the
+ * file is rebuilt from the compacted topic.
+ */
+@Slf4j
+@Component
+public class CustomerStore {
+
+    private final boolean enabled;
+    private final MappedRecordLog records;
+    private final LongOffsetIndex index;
+    private final StampedLock lock = new StampedLock();
+    private final CustomerEventDeserializer deserializer = new CustomerEventDeserializer();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expired;
+    private final Duration maxAge;
+    private volatile boolean ready;
+
+    public CustomerStore(
+            @Value("${integration.store.enabled:true}") boolean enabled,
+            @Value("${integration.store.file:./data/store/customers.dat}") Path file,
+            @Value("${integration.store.segment-size:64MB}") DataSize segmentSize,
+            @Value("${integration.store.expected-customers:1000000}") int expectedCustomers,
+            @Value("${integration.store.max-age:5m}") Duration maxAge,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        if (enabled) {
+            try {
+                this.records = new MappedRecordLog(file, (int) segmentSize.toBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open customer store " + file, e);
+            }
+            this.index = new LongOffsetIndex(expectedCustomers);
+        } else {
+            this.records = null;
+            this.index = null;
+        }
+
+        this.hits = meterRegistry.counter("customer.store.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("customer.store.lookups", "result", "miss");
+        this.expired = meterRegistry.counter("customer.store.lookups", "result", "expired");
+        Gauge.builder("customer.store.size", this, CustomerStore::size)
+                .description("Customers in the local store")
+                .register(meterRegistry);
+        Gauge.builder("customer.store.bytes", this, store -> store.enabled ? store.records.size() : 0)
+                .description("Bytes written to the store file, including superseded records")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Latest published event for the customer, if the store is ready and holds one
+     * processed within max-age
+     */
+    public Optional<CustomerResponse> find(long customerId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        long offset = offsetOf(customerId);
+        if (offset == LongOffsetIndex.ABSENT) {
+            misses.increment();
+            return Optional.empty();
+        }
+        CustomerResponse stored = deserializer.deserialize(KafkaConfig.CUSTOMER_EVENTS_TOPIC, records.read(offset));
+        if (stored == null || isExpired(stored)) {
+            expired.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(stored);
+    }
+
+    private boolean isExpired(CustomerResponse stored) {
+        LocalDateTime processedAt = stored.getProcessedAt();
+        return processedAt == null || processedAt.isBefore(LocalDateTime.now().minus(maxAge));
+    }
+
+    /**
+     * Apply one topic record: store the value as-is, or remove the customer on a tombstone
+     */
+    public void apply(long customerId, byte[] value) {
+        if (!enabled) {
+            return;
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (value == null) {
+                index.remove(customerId);
+            } else {
+                index.put(customerId, records.append(value));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write customer " + customerId + " to the store", e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Called once the replay has caught up with the end of the topic
+     */
+    public void markReady() {
+        if (enabled && !ready) {
+            ready = true;
+            log.info("🗄️ [MuleSoft Object Store] Customer store ready with {} customers ({} bytes)",
+                    size(), records.size());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        if (!enabled) {
+            return 0;
+        }
+        long stamp = lock.readLock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Optimistic read: the probe runs without locking and is retried under the read lock
+     * only if a write happened meanwhile
+     */
+    private long offsetOf(long customerId) {
+        long stamp = lock.tryOptimisticRead();
+        long offset = index.get(customerId);
+        if (lock.validate(stamp)) {
+            return offset;
+        }
+        stamp = lock.readLock();
+        try {
+            return index.get(customerId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        ready = false;
+        if (enabled) {
+            records.close();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.integrationservice.store;
+
+import com.example.integrationservice.config.KafkaConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds and follows the customer store from the customer-events topic
+ * Equivalent to MuleSoft Kafka Listener feeding an Object Store
+ *
+ * Each replica subscribes under its own throwaway group and seeks every assigned partition
+ * to the beginning, so the store always holds the full compacted topic. Partitions are only
+ * resolved once the broker answers: a Kafka outage at startup leaves the store empty and
+ * not ready (lookups fall through to the normal flow) instead of failing the application.
+ * Values stay raw bytes: the replay copies them into the store without deserializing anything.
+ *
+ * The store is marked ready once the consumer has partitions and no lag left on any of them,
+ * or the container goes idle with partitions assigned (an empty topic).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CustomerStoreLoader implements ConsumerSeekAware {
+
+    static final String LISTENER_ID = "customerStoreLoader";
+
+    private final CustomerStore customerStore;
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            containerFactory = "customerStoreListenerContainerFactory",
+            topics = KafkaConfig.CUSTOMER_EVENTS_TOPIC,
+            groupId = "integration-service-store-#{T(java.util.UUID).randomUUID()}",
+            autoStartup = "${integration.store.enabled:true}",
+            properties = ConsumerConfig.AUTO_OFFSET_RESET_CONFIG + "=earliest")
+    public void load(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        for (ConsumerRecord<String, byte[]> record : records) {
+            Long customerId = customerId(record.key());
+            if (customerId != null) {
+                customerStore.apply(customerId, record.value());
+            }
+        }
+
+        if (!customerStore.isReady() && caughtUp(consumer)) {
+            customerStore.markReady();
+        }
+    }
+
+    /**
+     * Replay from the start on every assignment; nothing is ever committed for this group
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToBeginning(assignments.keySet());
+    }
+
+    @EventListener
+    public void onIdle(ListenerContainerIdleEvent event) {
+        if (event.getListenerId().startsWith(LISTENER_ID)
+                && event.getTopicPartitions() != null && !event.getTopicPartitions().isEmpty()) {
+            customerStore.markReady();
+        }
+    }
+
+    /**
+     * Lag from the last fetch response; no extra broker round trip
+     */
+    private static boolean caughtUp(Consumer<?, ?> consumer) {
+        return !consumer.assignment().isEmpty() && consumer.assignment().stream()
+                .allMatch(partition -> consumer.currentLag(partition).orElse(1L) == 0L);
+    }
+
+    private static Long customerId(String key) {
+        try {
+            return key == null ? null : Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            log.warn("🗄️ [MuleSoft Object Store] Skipping customer event with non-numeric key {}", key);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.integrationservice.store;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Off-heap open-addressing hash index from a primitive long key to a long offset
+ *
+ * Slots live in one direct ByteBuffer (16 bytes each: key, offset + 1), so millions of
+ * entries cost the GC a single object and no boxed Long keys. Linear probing with
+ * backward-shift deletion; the table doubles once it is half full.
+ *
+ * Not thread-safe: CustomerStore serialises writers and validates readers.
+ */
+final class LongOffsetIndex {
+
+    static final long ABSENT = -1L;
+
+    private static final int SLOT_BYTES = 2 * Long.BYTES;
+    private static final int MAX_SLOTS = 1 << 26;
+    private static final long EMPTY = 0L;
+
+    private ByteBuffer slots;
+    private int mask;
+    private int size;
+
+    LongOffsetIndex(int expectedKeys) {
+        allocate(slotsFor(expectedKeys));
+    }
+
+    /**
+     * @return the offset stored for the key, or {@link #ABSENT}
+     */
+    long get(long key) {
+        // Mask derived from the buffer itself, so an unlocked reader racing a resize never
+        // pairs a new mask with the old, smaller table
+        ByteBuffer table = slots;
+        int tableMask = table.capacity() / SLOT_BYTES - 1;
+        for (int slot = home(key, tableMask); ; slot = (slot + 1) & tableMask) {
+            long stored = table.getLong(slot * SLOT_BYTES + Long.BYTES);
+            if (stored == EMPTY) {
+                return ABSENT;
+            }
+            if (table.getLong(slot * SLOT_BYTES) == key) {
+                return stored - 1;
+            }
+        }
+    }
+
+    void put(long key, long offset) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Negative offset " + offset);
+        }
+        if ((size + 1) * 2L > mask + 1L) {
+            grow();
+        }
+        for (int slot = home(key, mask); ; slot = (slot + 1) & mask) {
+            long stored = slots.getLong(slot * SLOT_BYTES + Long.BYTES);
+            if (stored == EMPTY) {
+                write(slot, key, offset + 1);
+                size++;
+                return;
+            }
+            if (slots.getLong(slot * SLOT_BYTES) == key) {
+                write(slot, key, offset + 1);
+                return;
+            }
+        }
+    }
+
+    boolean remove(long key) {
+        int slot = home(key, mask);
+        while (true) {
+            if (slots.getLong(slot * SLOT_BYTES + Long.BYTES) == EMPTY) {
+                return false;
+            }
+            if (slots.getLong(slot * SLOT_BYTES) == key) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // Backward-shift: pull later entries of the probe run into the hole so lookups
+        // never stop early at an emptied slot
+        int hole = slot;
+        for (int next = (hole + 1) & mask; ; next = (next + 1) & mask) {
+            long stored = slots.getLong(next * SLOT_BYTES + Long.BYTES);
+            if (stored == EMPTY) {
+                break;
+            }
+            long nextKey = slots.getLong(next * SLOT_BYTES);
+            int nextHome = home(nextKey, mask);
+            boolean homeBetweenHoleAndNext = hole <= next
+                    ? hole < nextHome && nextHome <= next
+                    : hole < nextHome || nextHome <= next;
+            if (!homeBetweenHoleAndNext) {
+                write(hole, nextKey, stored);
+                hole = next;
+            }
+        }
+        write(hole, 0L, EMPTY);
+        size--;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long offHeapBytes() {
+        return slots.capacity();
+    }
+
+    private void grow() {
+        int capacity = mask + 1;
+        if (capacity >= MAX_SLOTS) {
+            throw new IllegalStateException("Index is full at " + size + " keys");
+        }
+        ByteBuffer old = slots;
+        allocate(capacity * 2);
+        for (int slot = 0; slot < capacity; slot++) {
+            long stored = old.getLong(slot * SLOT_BYTES + Long.BYTES);
+            if (stored != EMPTY) {
+                long key = old.getLong(slot * SLOT_BYTES);
+                int target = home(key, mask);
+                while (slots.getLong(target * SLOT_BYTES + Long.BYTES) != EMPTY) {
+                    target = (target + 1) & mask;
+                }
+                write(target, key, stored);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+        mask = capacity - 1;
+    }
+
+    private void write(int slot, long key, long stored) {
+        slots.putLong(slot * SLOT_BYTES, key);
+        slots.putLong(slot * SLOT_BYTES + Long.BYTES, stored);
+    }
+
+    /**
+     * Fibonacci hashing: spreads sequential customer IDs across the table
+     */
+    private static int home(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int slotsFor(int expectedKeys) {
+        long wanted = Math.max(16L, expectedKeys * 2L);
+        if (wanted >= MAX_SLOTS) {
+            return MAX_SLOTS;
+        }
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+}
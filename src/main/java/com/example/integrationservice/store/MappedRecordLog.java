@@ -0,0 +1,94 @@
+package com.example.integrationservice.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Append-only record file, memory-mapped in fixed-size segments
+ *
+ * Each record is [int length][bytes] and never straddles a segment; its offset is the
+ * position in the file. Record bytes live in the page cache rather than on the Java heap,
+ * and readers copy only the record they ask for.
+ *
+ * One writer at a time; reads of already-appended offsets are safe from any thread.
+ */
+final class MappedRecordLog implements Closeable {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final FileChannel channel;
+    private final int segmentShift;
+    private final int segmentSize;
+    private final List<MappedByteBuffer> segments = new CopyOnWriteArrayList<>();
+    private long writePosition;
+
+    /**
+     * Opens an empty log, discarding any previous contents of the file
+     *
+     * @param segmentSize bytes per mapped segment, rounded down to a power of two
+     */
+    MappedRecordLog(Path file, int segmentSize) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.segmentSize = Integer.highestOneBit(segmentSize);
+        this.segmentShift = Integer.numberOfTrailingZeros(this.segmentSize);
+    }
+
+    /**
+     * @return offset of the appended record
+     */
+    long append(byte[] value) throws IOException {
+        int recordSize = LENGTH_BYTES + value.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + value.length
+                    + " bytes does not fit a " + segmentSize + "-byte segment");
+        }
+
+        int position = (int) (writePosition & (segmentSize - 1));
+        if (position + recordSize > segmentSize) {
+            writePosition += segmentSize - position;
+            position = 0;
+        }
+        int segment = (int) (writePosition >>> segmentShift);
+        if (segment == segments.size()) {
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) segment << segmentShift, segmentSize));
+        }
+
+        MappedByteBuffer buffer = segments.get(segment);
+        buffer.putInt(position, value.length);
+        buffer.put(position + LENGTH_BYTES, value);
+
+        long offset = writePosition;
+        writePosition += recordSize;
+        return offset;
+    }
+
+    byte[] read(long offset) {
+        MappedByteBuffer buffer = segments.get((int) (offset >>> segmentShift));
+        int position = (int) (offset & (segmentSize - 1));
+        byte[] value = new byte[buffer.getInt(position)];
+        buffer.get(position + LENGTH_BYTES, value);
+        return value;
+    }
+
+    /**
+     * Bytes written so far, including superseded records
+     */
+    long size() {
+        return writePosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        segments.clear();
+        channel.close();
+    }
+}
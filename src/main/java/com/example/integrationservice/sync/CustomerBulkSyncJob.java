@@ -0,0 +1,181 @@
+package com.example.integrationservice.sync;
+
+import com.example.integrationservice.client.ExternalApiClient;
+import com.example.integrationservice.limit.PriorityLane;
+import com.example.integrationservice.limit.PriorityLaneLimiter;
+import com.example.integrationservice.model.BulkSyncStatus;
+import com.example.integrationservice.model.CustomerPage;
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.producer.CustomerEventProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bulk customer sync - streams the whole upstream collection into Kafka
+ * Equivalent to MuleSoft Batch Job fed by a paginated HTTP Request
+ *
+ * - Pages are pulled lazily (limit/skip) as a backpressured Flux: the next page is only
+ *   requested once the previous one is being published, so memory stays at about two pages
+ *   regardless of the collection size
+ * - Each page arrives already mapped (CustomerProjectionDecoder applies the CustomerMapper
+ *   rules while parsing) and is published as one batch
+ * - The offset of the next page is checkpointed after each published page; a failed or
+ *   interrupted run resumes from there (automatically on startup when resume-on-startup is set)
+ * - Progress (synced, total, records/sec) is logged per page and available via status()
+ * - Page requests run in the bulk priority lane, so a sync yields to interactive calls;
+ *   a shed page fails the run, which resumes from the checkpoint
+ */
+@Slf4j
+@Component
+public class CustomerBulkSyncJob {
+
+    private final ExternalApiClient externalApiClient;
+    private final CustomerEventProducer customerEventProducer;
+    private final PriorityLaneLimiter priorityLaneLimiter;
+    private final SyncCheckpoint checkpoint;
+    private final int pageSize;
+    private final boolean resumeOnStartup;
+    private final Counter syncedRecords;
+
+    private BulkSyncStatus status = BulkSyncStatus.builder().state(BulkSyncStatus.STATE_IDLE).build();
+    private Disposable running;
+    private long startNanos;
+
+    public CustomerBulkSyncJob(
+            ExternalApiClient externalApiClient,
+            CustomerEventProducer customerEventProducer,
+            PriorityLaneLimiter priorityLaneLimiter,
+            @Value("${integration.sync.checkpoint-file:./data/sync/checkpoint}") Path checkpointFile,
+            @Value("${integration.sync.page-size:100}") int pageSize,
+            @Value("${integration.sync.resume-on-startup:true}") boolean resumeOnStartup,
+            MeterRegistry meterRegistry) {
+        this.externalApiClient = externalApiClient;
+        this.customerEventProducer = customerEventProducer;
+        this.priorityLaneLimiter = priorityLaneLimiter;
+        this.checkpoint = new SyncCheckpoint(checkpointFile);
+        this.pageSize = pageSize;
+        this.resumeOnStartup = resumeOnStartup;
+        this.syncedRecords = Counter.builder("customer.sync.records")
+                .description("Customers published by the bulk sync job")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start a sync, resuming from the checkpoint when one exists
+     * A no-op while a sync is already running
+     *
+     * @return Status snapshot after starting
+     */
+    public synchronized BulkSyncStatus start() {
+        if (BulkSyncStatus.STATE_RUNNING.equals(status.getState())) {
+            return status();
+        }
+
+        int resumeFrom = checkpoint.load();
+        startNanos = System.nanoTime();
+        status = BulkSyncStatus.builder()
+                .state(BulkSyncStatus.STATE_RUNNING)
+                .resumedFrom(resumeFrom)
+                .nextSkip(resumeFrom)
+                .startedAt(LocalDateTime.now())
+                .build();
+
+        log.info("🔄 [MuleSoft Batch Job START] Bulk customer sync from offset {} (page size {})", resumeFrom, pageSize);
+
+        running = pages(resumeFrom)
+                .concatMap(this::publishPage, 1)
+                .subscribe(
+                        page -> { },
+                        this::onFailure,
+                        this::onComplete);
+
+        return status();
+    }
+
+    public synchronized BulkSyncStatus status() {
+        return status.toBuilder().build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedSync() {
+        if (resumeOnStartup && checkpoint.exists()) {
+            log.info("🔄 [MuleSoft Batch Job] Resuming interrupted bulk customer sync");
+            start();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (running != null) {
+            running.dispose();
+        }
+    }
+
+    /**
+     * Upstream collection as a lazy stream of pages, starting at the given offset
+     */
+    Flux<CustomerPage> pages(int fromSkip) {
+        return page(fromSkip)
+                .expand(page -> page.hasNext() ? page(page.nextSkip()) : Mono.empty());
+    }
+
+    private Mono<CustomerPage> page(int skip) {
+        return priorityLaneLimiter.execute(PriorityLane.BULK, externalApiClient.getCustomerPage(skip, pageSize));
+    }
+
+    private Mono<CustomerPage> publishPage(CustomerPage page) {
+        List<CustomerResponse> events = page.getCustomers();
+
+        return customerEventProducer.publishCustomerEvents(events)
+                .then(Mono.fromCallable(() -> {
+                    checkpoint.save(page.nextSkip());
+                    recordProgress(page, events.size());
+                    return page;
+                }));
+    }
+
+    private synchronized void recordProgress(CustomerPage page, int published) {
+        syncedRecords.increment(published);
+        long synced = status.getSynced() + published;
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        status.setSynced(synced);
+        status.setNextSkip(page.nextSkip());
+        status.setTotal(page.getTotal());
+        status.setRecordsPerSecond(seconds > 0 ? synced / seconds : 0);
+
+        log.info("🔄 [MuleSoft Batch Job] Synced {}/{} customers ({} records/s)",
+                page.nextSkip(), page.getTotal(), Math.round(status.getRecordsPerSecond()));
+    }
+
+    private synchronized void onComplete() {
+        checkpoint.clear();
+        status.setState(BulkSyncStatus.STATE_COMPLETED);
+        status.setFinishedAt(LocalDateTime.now());
+
+        log.info("✅ [MuleSoft Batch Job COMPLETE] Synced {} customers at {} records/s",
+                status.getSynced(), Math.round(status.getRecordsPerSecond()));
+    }
+
+    private synchronized void onFailure(Throwable error) {
+        status.setState(BulkSyncStatus.STATE_FAILED);
+        status.setFinishedAt(LocalDateTime.now());
+        status.setError(error.getMessage());
+
+        log.error("❌ [MuleSoft Error Handler] Bulk customer sync failed at offset {}, resumable from checkpoint: {}",
+                status.getNextSkip(), error.getMessage());
+    }
+}
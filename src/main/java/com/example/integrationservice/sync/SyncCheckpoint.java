@@ -0,0 +1,56 @@
+package com.example.integrationservice.sync;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * File-backed resume point for the bulk sync: the upstream offset of the next page to fetch
+ *
+ * Written with write-then-rename so a crash leaves either the old or the new value, never a torn one.
+ */
+class SyncCheckpoint {
+
+    private final Path file;
+
+    SyncCheckpoint(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return Saved offset, or 0 when there is nothing to resume
+     */
+    int load() {
+        try {
+            return Files.exists(file) ? Integer.parseInt(Files.readString(file, StandardCharsets.UTF_8).trim()) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read sync checkpoint " + file, e);
+        }
+    }
+
+    boolean exists() {
+        return Files.exists(file);
+    }
+
+    void save(int nextSkip) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, Integer.toString(nextSkip), StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write sync checkpoint " + file, e);
+        }
+    }
+
+    void clear() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete sync checkpoint " + file, e);
+        }
+    }
+}
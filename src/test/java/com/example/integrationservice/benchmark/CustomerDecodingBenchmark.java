@@ -0,0 +1,63 @@
+package com.example.integrationservice.benchmark;
+
+import com.example.integrationservice.mapper.CustomerMapper;
+import com.example.integrationservice.mapper.CustomerProjectionDecoder;
+import com.example.integrationservice.model.Customer;
+import com.example.integrationservice.model.CustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upstream payload decoding: full Customer object graph + CustomerMapper vs CustomerProjectionDecoder.
+ *
+ * Both decode the same dummyjson /users/{id} payload into a CustomerResponse. Read
+ * gc.alloc.rate.norm (bytes/op) next to the score to compare allocation per request.
+ *
+ * Run with: mvn test -Pjmh -Djmh.include=CustomerDecodingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerDecodingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CustomerMapper customerMapper;
+    private CustomerProjectionDecoder projectionDecoder;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        customerMapper = new CustomerMapper();
+        projectionDecoder = new CustomerProjectionDecoder(customerMapper);
+        try (InputStream in = CustomerDecodingBenchmark.class.getResourceAsStream("/fixtures/dummyjson-user.json")) {
+            payload = in.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public CustomerResponse fullObjectGraph() throws IOException {
+        return customerMapper.toCustomerResponse(objectMapper.readValue(payload, Customer.class));
+    }
+
+    @Benchmark
+    public CustomerResponse projection() {
+        return projectionDecoder.decode(payload);
+    }
+}
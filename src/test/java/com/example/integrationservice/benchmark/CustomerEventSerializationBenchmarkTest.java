@@ -0,0 +1,61 @@
+package com.example.integrationservice.benchmark;
+
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.serialization.CustomerEventAvroSerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares record size and serialization throughput of the customer event formats.
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class CustomerEventSerializationBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int EVENTS = 1_000_000;
+
+    @Test
+    void compareJsonAndAvro() {
+        CustomerResponse[] events = new CustomerResponse[1024];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = KafkaProducerProfileBenchmarkTest.sampleEvent(i);
+        }
+
+        try (JsonSerializer<CustomerResponse> json = new JsonSerializer<CustomerResponse>().noTypeInfo();
+             CustomerEventAvroSerializer avro = new CustomerEventAvroSerializer()) {
+            double jsonBytes = run("JSON", json, events);
+            double avroBytes = run("AVRO", avro, events);
+
+            System.out.printf("AVRO records are %.0f%% of JSON size%n", 100 * avroBytes / jsonBytes);
+            assertTrue(avroBytes < jsonBytes);
+        }
+    }
+
+    private static double run(String format, Serializer<CustomerResponse> serializer, CustomerResponse[] events) {
+        serialize(serializer, events, WARMUP);
+
+        long start = System.nanoTime();
+        long totalBytes = serialize(serializer, events, EVENTS);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double bytesPerEvent = (double) totalBytes / EVENTS;
+        System.out.printf("%-5s %6.1f bytes/event   %,10.0f events/s   %6.1f MB/s%n",
+                format, bytesPerEvent, EVENTS / seconds, totalBytes / seconds / 1_000_000);
+        return bytesPerEvent;
+    }
+
+    private static long serialize(Serializer<CustomerResponse> serializer, CustomerResponse[] events, int count) {
+        long totalBytes = 0;
+        for (int i = 0; i < count; i++) {
+            totalBytes += serializer.serialize(KafkaConfig.CUSTOMER_EVENTS_TOPIC, events[i & (events.length - 1)]).length;
+        }
+        return totalBytes;
+    }
+}
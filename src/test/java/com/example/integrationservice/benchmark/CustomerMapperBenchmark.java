@@ -0,0 +1,88 @@
+package com.example.integrationservice.benchmark;
+
+import com.example.integrationservice.mapper.CustomerMapper;
+import com.example.integrationservice.model.Customer;
+import com.example.integrationservice.model.CustomerResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CustomerMapper standard path vs fast path (integration.mapper.fast-path), plus calculateRiskScore.
+ *
+ * Customers cycle through a small set of cities, as real traffic does, so the fast
+ * path's location interner is exercised. Compare ns/op and gc.alloc.rate.norm (bytes/op).
+ *
+ * Run with: mvn test -Pjmh -Djmh.include=CustomerMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerMapperBenchmark {
+
+    private static final String[][] LOCATIONS = {
+            {"Phoenix", "Mississippi"}, {"Houston", "Alabama"}, {"Washington", "Kansas"},
+            {"Seattle", "Pennsylvania"}, {"Jacksonville", "Indiana"}, {"Denver", "Nevada"}
+    };
+
+    private CustomerMapper standardMapper;
+    private CustomerMapper fastMapper;
+    private Customer[] customers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        standardMapper = new CustomerMapper();
+        fastMapper = new CustomerMapper(true, 4096, Clock.systemDefaultZone());
+        customers = new Customer[64];
+        for (int i = 0; i < customers.length; i++) {
+            String[] location = LOCATIONS[i % LOCATIONS.length];
+            Customer customer = Customer.builder()
+                    .id((long) i)
+                    .firstName("Emily")
+                    .lastName("Johnson")
+                    .email("emily.johnson@x.dummyjson.com")
+                    .phone("+81 965-431-3024")
+                    .age(20 + i % 50)
+                    .company(new Customer.Company("Engineering", "Dooley, Kozey and Cronin", "Sales Manager", null))
+                    .build();
+            // Fresh strings per customer, as a JSON decoder would produce them
+            customer.setAddress(new Customer.Address(null, new String(location[0]), new String(location[1]),
+                    null, null, null, null));
+            customers[i] = customer;
+        }
+    }
+
+    @Benchmark
+    public CustomerResponse standard() {
+        return standardMapper.toCustomerResponse(nextCustomer());
+    }
+
+    @Benchmark
+    public CustomerResponse fastPath() {
+        return fastMapper.toCustomerResponse(nextCustomer());
+    }
+
+    @Benchmark
+    public int riskScore() {
+        return standardMapper.calculateRiskScore(nextCustomer());
+    }
+
+    private Customer nextCustomer() {
+        next = (next + 1) & (customers.length - 1);
+        return customers[next];
+    }
+}
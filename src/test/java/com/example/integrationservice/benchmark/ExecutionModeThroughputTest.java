@@ -0,0 +1,76 @@
+package com.example.integrationservice.benchmark;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares platform-thread and virtual-thread execution modes for the blocking flow.
+ *
+ * Each simulated request parks its thread on a slow upstream call behind the
+ * upstream bulkhead, the same shape as ExternalApiClient.getCustomerById.
+ * The platform pool is sized like Tomcat's default (200 threads).
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class ExecutionModeThroughputTest {
+
+    private static final int REQUESTS = 10_000;
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(100);
+
+    @Test
+    void virtualThreadsOutperformPlatformPoolOnSlowUpstream() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = Bulkhead.of("benchmark", BulkheadConfig.custom()
+                .maxConcurrentCalls(REQUESTS)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        // Act
+        double platform = run("platform", Executors.newFixedThreadPool(TOMCAT_DEFAULT_MAX_THREADS), bulkhead);
+        double virtual = run("virtual", Executors.newVirtualThreadPerTaskExecutor(), bulkhead);
+
+        // Assert
+        System.out.printf("speedup: %.1fx%n", virtual / platform);
+        assertTrue(virtual > platform, "virtual-thread mode should sustain more requests/sec");
+    }
+
+    private double run(String mode, ExecutorService executor, Bulkhead bulkhead) throws Exception {
+        long start = System.nanoTime();
+        try (executor) {
+            List<Future<Long>> futures = new ArrayList<>(REQUESTS);
+            for (long id = 0; id < REQUESTS; id++) {
+                long customerId = id;
+                futures.add(executor.submit(() -> bulkhead.executeSupplier(() -> slowUpstreamCall(customerId))));
+            }
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        double throughput = REQUESTS / seconds;
+        System.out.printf("%-8s mode: %,d requests in %.2fs -> %,.0f req/s%n", mode, REQUESTS, seconds, throughput);
+        return throughput;
+    }
+
+    private Long slowUpstreamCall(long customerId) {
+        try {
+            Thread.sleep(UPSTREAM_LATENCY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return customerId;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.integrationservice.benchmark;
+
+import com.example.integrationservice.model.Customer;
+import com.example.integrationservice.model.CustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization of the upstream Customer and the CustomerResponse returned by the API.
+ *
+ * Uses an ObjectMapper configured like Spring Boot's (Jackson2ObjectMapperBuilder: java.time
+ * support, ISO dates, unknown properties ignored).
+ *
+ * Run with: mvn test -Pjmh -Djmh.include=JacksonSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] customerJson;
+    private Customer customer;
+    private CustomerResponse customerResponse;
+    private byte[] customerResponseJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        try (InputStream in = JacksonSerializationBenchmark.class.getResourceAsStream("/fixtures/dummyjson-user.json")) {
+            customerJson = in.readAllBytes();
+        }
+        customer = objectMapper.readValue(customerJson, Customer.class);
+        customerResponse = KafkaProducerProfileBenchmarkTest.sampleEvent(1);
+        customerResponseJson = objectMapper.writeValueAsBytes(customerResponse);
+    }
+
+    @Benchmark
+    public Customer deserializeCustomer() throws IOException {
+        return objectMapper.readValue(customerJson, Customer.class);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomer() throws IOException {
+        return objectMapper.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public CustomerResponse deserializeCustomerResponse() throws IOException {
+        return objectMapper.readValue(customerResponseJson, CustomerResponse.class);
+    }
+
+    @Benchmark
+    public byte[] serializeCustomerResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(customerResponse);
+    }
+}
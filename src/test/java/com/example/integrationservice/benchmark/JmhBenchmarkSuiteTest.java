@@ -0,0 +1,43 @@
+package com.example.integrationservice.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the JMH benchmarks in this package with the GC (allocation) profiler and writes
+ * machine-readable JSON results for regression tracking.
+ *
+ * - jmh.include: benchmark regex (default: every *Benchmark class in this package)
+ * - jmh.result: JSON result file (default: target/jmh-result.json)
+ *
+ * Run with: mvn test -Pjmh [-Djmh.include=CustomerMapperBenchmark]
+ */
+@Tag("benchmark")
+class JmhBenchmarkSuiteTest {
+
+    @Test
+    void runBenchmarks() throws Exception {
+        String include = System.getProperty("jmh.include", "integrationservice\\.benchmark\\..*Benchmark\\.");
+        String result = System.getProperty("jmh.result", "target/jmh-result.json");
+
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build())
+                .run();
+
+        System.out.printf("JMH results written to %s%n", result);
+        assertFalse(results.isEmpty(), "no benchmarks matched " + include);
+    }
+}
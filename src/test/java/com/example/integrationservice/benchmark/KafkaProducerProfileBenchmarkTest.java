@@ -0,0 +1,125 @@
+package com.example.integrationservice.benchmark;
+
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.config.KafkaProducerProfile;
+import com.example.integrationservice.model.CustomerResponse;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares Kafka producer profiles against an embedded broker.
+ *
+ * For each KafkaProducerProfile, publishes the same stream of customer events
+ * and reports events/sec and p50/p99 send latency (send() to broker ack).
+ *
+ * Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class KafkaProducerProfileBenchmarkTest {
+
+    private static final int WARMUP_EVENTS = 5_000;
+    private static final int EVENTS = 50_000;
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, KafkaConfig.CUSTOMER_EVENTS_TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void compareProducerProfiles() throws Exception {
+        Map<KafkaProducerProfile, Double> throughput = new EnumMap<>(KafkaProducerProfile.class);
+
+        for (KafkaProducerProfile profile : KafkaProducerProfile.values()) {
+            throughput.put(profile, run(profile));
+        }
+
+        assertTrue(throughput.get(KafkaProducerProfile.HIGH_THROUGHPUT) > throughput.get(KafkaProducerProfile.LOW_LATENCY),
+                "HIGH_THROUGHPUT profile should publish more events/sec than LOW_LATENCY");
+    }
+
+    private double run(KafkaProducerProfile profile) throws Exception {
+        Map<String, Object> config = new HashMap<>(profile.settings());
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+
+        DefaultKafkaProducerFactory<String, CustomerResponse> factory = new DefaultKafkaProducerFactory<>(config);
+        try {
+            KafkaTemplate<String, CustomerResponse> template = new KafkaTemplate<>(factory);
+            publish(template, WARMUP_EVENTS, new long[WARMUP_EVENTS]);
+
+            long[] latencies = new long[EVENTS];
+            long start = System.nanoTime();
+            publish(template, EVENTS, latencies);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            Arrays.sort(latencies);
+            double eventsPerSecond = EVENTS / seconds;
+            System.out.printf("%-16s %,10.0f events/s   p50 %6.2f ms   p99 %6.2f ms%n",
+                    profile, eventsPerSecond, millis(latencies[EVENTS / 2]), millis(latencies[EVENTS * 99 / 100]));
+            return eventsPerSecond;
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    private static void publish(KafkaTemplate<String, CustomerResponse> template, int events, long[] latencies)
+            throws Exception {
+        CompletableFuture<?>[] futures = new CompletableFuture[events];
+        for (int i = 0; i < events; i++) {
+            int index = i;
+            CustomerResponse event = sampleEvent(i);
+            long sentAt = System.nanoTime();
+            futures[i] = template.send(KafkaConfig.CUSTOMER_EVENTS_TOPIC, String.valueOf(event.getCustomerId()), event)
+                    .whenComplete((result, ex) -> latencies[index] = System.nanoTime() - sentAt);
+        }
+        CompletableFuture.allOf(futures).get(2, TimeUnit.MINUTES);
+    }
+
+    static CustomerResponse sampleEvent(long id) {
+        return CustomerResponse.builder()
+                .customerId(id)
+                .fullName("Emily Johnson")
+                .email("emily.johnson@x.dummyjson.com")
+                .phoneNumber("+81 965-431-3024")
+                .customerAge(28)
+                .location("Phoenix, Mississippi")
+                .companyName("Dooley, Kozey and Cronin")
+                .jobTitle("Sales Manager")
+                .loyaltyScore("Bronze")
+                .processedAt(LocalDateTime.now())
+                .status("SUCCESS")
+                .build();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
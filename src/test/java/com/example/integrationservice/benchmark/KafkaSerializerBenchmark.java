@@ -0,0 +1,81 @@
+package com.example.integrationservice.benchmark;
+
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.serialization.CustomerEventAvroSerializer;
+import com.example.integrationservice.serialization.CustomerEventDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka value serializers for customer events: Spring Kafka JsonSerializer vs the Avro serializer,
+ * plus CustomerEventDeserializer on both wire formats.
+ *
+ * Run with: mvn test -Pjmh -Djmh.include=KafkaSerializerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KafkaSerializerBenchmark {
+
+    private static final String TOPIC = KafkaConfig.CUSTOMER_EVENTS_TOPIC;
+
+    private JsonSerializer<CustomerResponse> jsonSerializer;
+    private CustomerEventAvroSerializer avroSerializer;
+    private CustomerEventDeserializer deserializer;
+    private CustomerResponse event;
+    private byte[] jsonRecord;
+    private byte[] avroRecord;
+
+    @Setup
+    public void setUp() {
+        jsonSerializer = new JsonSerializer<CustomerResponse>().noTypeInfo();
+        avroSerializer = new CustomerEventAvroSerializer();
+        deserializer = new CustomerEventDeserializer();
+        event = KafkaProducerProfileBenchmarkTest.sampleEvent(1);
+        jsonRecord = jsonSerializer.serialize(TOPIC, event);
+        avroRecord = avroSerializer.serialize(TOPIC, event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jsonSerializer.close();
+        avroSerializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] avroSerialize() {
+        return avroSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public CustomerResponse jsonDeserialize() {
+        return deserializer.deserialize(TOPIC, jsonRecord);
+    }
+
+    @Benchmark
+    public CustomerResponse avroDeserialize() {
+        return deserializer.deserialize(TOPIC, avroRecord);
+    }
+}
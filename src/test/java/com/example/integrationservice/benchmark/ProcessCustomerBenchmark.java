@@ -0,0 +1,145 @@
+package com.example.integrationservice.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.example.integrationservice.cache.CustomerCache;
+import com.example.integrationservice.client.CustomerRequestCoalescer;
+import com.example.integrationservice.client.ExternalApiClient;
+import com.example.integrationservice.client.UpstreamRetryPolicy;
+import com.example.integrationservice.limit.AdaptiveConcurrencyLimiter;
+import com.example.integrationservice.limit.PriorityLaneLimiter;
+import com.example.integrationservice.mapper.CustomerMapper;
+import com.example.integrationservice.mapper.CustomerProjectionDecoder;
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.outbox.CustomerEventOutbox;
+import com.example.integrationservice.producer.CustomerEventProducer;
+import com.example.integrationservice.serialization.CustomerEventFormat;
+import com.example.integrationservice.service.FlowMetrics;
+import com.example.integrationservice.service.IntegrationService;
+import com.example.integrationservice.store.CustomerStore;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end IntegrationService.processCustomer with in-process stubs.
+ *
+ * The real client stack (coalescer, retry policy, circuit breaker, bulkhead, projection decoding),
+ * mapper, cache and producer are wired by hand. The external API is a WebClient exchange
+ * function answering with a recorded dummyjson payload, and Kafka is a MockProducer that
+ * still runs the JSON value serializer. Application logging is raised to WARN so console
+ * I/O does not dominate the measurement.
+ *
+ * Run with: mvn test -Pjmh -Djmh.include=ProcessCustomerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessCustomerBenchmark {
+
+    private static final int CUSTOMER_IDS = 64;
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private IntegrationService integrationService;
+    private MockProducer<String, CustomerResponse> mockProducer;
+    private long next;
+
+    @Setup
+    public void setUp() throws IOException {
+        ((Logger) LoggerFactory.getLogger("com.example.integrationservice")).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        String payload;
+        try (InputStream in = ProcessCustomerBenchmark.class.getResourceAsStream("/fixtures/dummyjson-user.json")) {
+            payload = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WebClient stubUpstream = WebClient.builder()
+                .baseUrl("http://stub-upstream/users/")
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(payload)
+                        .build()))
+                .build();
+
+        CustomerMapper customerMapper = new CustomerMapper();
+        ExternalApiClient externalApiClient = new ExternalApiClient(
+                stubUpstream,
+                new CustomerRequestCoalescer(meterRegistry),
+                new UpstreamRetryPolicy(3, Duration.ofMillis(200), Duration.ofSeconds(2), 0.5,
+                        Duration.ofSeconds(2), Duration.ofSeconds(5), meterRegistry),
+                CircuitBreaker.ofDefaults("usersApi"),
+                Bulkhead.ofDefaults("usersApi"),
+                new CustomerProjectionDecoder(customerMapper));
+
+        mockProducer = new MockProducer<>(true, new StringSerializer(), new JsonSerializer<CustomerResponse>().noTypeInfo());
+        CustomerEventProducer customerEventProducer = new CustomerEventProducer(
+                new KafkaTemplate<>(new MockProducerFactory<>(() -> mockProducer)),
+                new CustomerEventOutbox(false, Path.of("unused"), DataSize.ofMegabytes(1), CustomerEventFormat.AVRO,
+                        meterRegistry),
+                meterRegistry);
+
+        CustomerCache customerCache = new CustomerCache(cacheEnabled, 10_000, Duration.ofMinutes(5),
+                Duration.ofHours(1), meterRegistry);
+
+        // Store disabled: every call runs the full fetch/publish flow
+        CustomerStore customerStore = new CustomerStore(false, Path.of("unused"), DataSize.ofMegabytes(1), 16,
+                Duration.ofMinutes(5), meterRegistry);
+
+        // Lanes disabled: upstream calls are never shed
+        PriorityLaneLimiter priorityLaneLimiter = new PriorityLaneLimiter(false,
+                new AdaptiveConcurrencyLimiter(false, 50, 10, 500, 0.2, 1.5, meterRegistry), 0.3, meterRegistry);
+
+        integrationService = new IntegrationService(externalApiClient, customerEventProducer,
+                customerCache, customerStore, new FlowMetrics(meterRegistry), priorityLaneLimiter);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearSentRecords() {
+        mockProducer.clear();
+    }
+
+    @Benchmark
+    public CustomerResponse processCustomer() {
+        next = (next + 1) % CUSTOMER_IDS;
+        return integrationService.processCustomer(next + 1);
+    }
+}
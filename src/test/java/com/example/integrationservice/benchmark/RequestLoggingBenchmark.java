@@ -0,0 +1,161 @@
+package com.example.integrationservice.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.spi.MDCAdapter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one request's logging on the calling thread, per logback-spring.xml appender.
+ *
+ * - before: the eight INFO lines a blocking request used to write (listener, flow steps,
+ *   connector, publish), including the full-name line
+ * - after: the same statements with per-step chatter at DEBUG, leaving one INFO line
+ *
+ * Appenders write to a temp file with immediate flush, like the console appender. With ASYNC
+ * and neverBlock, events that do not fit the queue are dropped, so ASYNC numbers show what the
+ * request thread pays, not how much is written.
+ *
+ * Run with: mvn test -Pjmh -Djmh.include=RequestLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final long CUSTOMER_ID = 42L;
+    private static final String FULL_NAME = "Emily Johnson";
+
+    @Param({"SYNC_TEXT", "ASYNC_TEXT", "SYNC_JSON", "ASYNC_JSON"})
+    public String appender;
+
+    private LoggerContext context;
+    private Logger log;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = new LoggerContext();
+        logFile = Files.createTempFile("request-logging", ".log");
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(appender.endsWith("JSON") ? jsonEncoder() : textEncoder());
+        file.start();
+
+        Appender<ILoggingEvent> root = file;
+        if (appender.startsWith("ASYNC")) {
+            // Same settings as logback-spring.xml
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(819);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(file);
+            async.start();
+            root = async;
+        }
+
+        log = context.getLogger("com.example.integrationservice");
+        log.setLevel(ch.qos.logback.classic.Level.INFO);
+        log.setAdditive(false);
+        log.addAppender(root);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void before(RequestThread requestThread) {
+        log.info("📨 [MuleSoft HTTP Listener] Received request for customer ID: {}", CUSTOMER_ID);
+        log.info("🌊 [MuleSoft Flow START] Processing customer ID: {}", CUSTOMER_ID);
+        log.info("📍 [MuleSoft Flow - Step 1] Calling external API...");
+        log.info("🔌 [MuleSoft Connector] Fetching customer data for ID: {}", CUSTOMER_ID);
+        log.info("📍 [MuleSoft Flow - Step 2] Transforming customer data using CustomerMapper (DataWeave equivalent)...");
+        log.info("📤 [MuleSoft VM Publish] Publishing event for customer ID: {}", CUSTOMER_ID);
+        log.info("✅ [MuleSoft Logger] Successfully processed customer: {}", FULL_NAME);
+        log.info("🌊 [MuleSoft Flow END] Completed processing for customer ID: {}", CUSTOMER_ID);
+    }
+
+    @Benchmark
+    public void after(RequestThread requestThread) {
+        log.debug("📨 [MuleSoft HTTP Listener] Received request for customer ID: {}", CUSTOMER_ID);
+        log.debug("🌊 [MuleSoft Flow START] Processing customer ID: {}", CUSTOMER_ID);
+        log.debug("📍 [MuleSoft Flow - Step 1] Calling external API...");
+        log.debug("🔌 [MuleSoft Connector] Fetching customer data for ID: {}", CUSTOMER_ID);
+        log.debug("📍 [MuleSoft Flow - Step 2] Transforming customer data using CustomerMapper (DataWeave equivalent)...");
+        log.debug("📤 [MuleSoft VM Publish] Publishing event for customer ID: {}", CUSTOMER_ID);
+        log.debug("✅ [MuleSoft Logger] Successfully processed customer: {}", FULL_NAME);
+        log.info("🌊 [MuleSoft Flow END] Completed processing for customer ID: {}", CUSTOMER_ID);
+    }
+
+    /**
+     * Each benchmark thread carries a correlation ID in its MDC, as a request thread would
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        private MDCAdapter mdc;
+
+        @Setup
+        public void setUp(RequestLoggingBenchmark benchmark) {
+            // The benchmark's own LoggerContext reads its own MDC adapter, not the global one
+            mdc = benchmark.context.getMDCAdapter();
+            mdc.put("correlationId", Long.toHexString(Thread.currentThread().threadId()));
+        }
+
+        @TearDown
+        public void tearDown() {
+            mdc.clear();
+        }
+    }
+
+    private Encoder<ILoggingEvent> textEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%X{correlationId:-}] - %msg%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setIncludeCallerData(false);
+        encoder.start();
+        return encoder;
+    }
+}
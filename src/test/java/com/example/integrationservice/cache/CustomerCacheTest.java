@@ -0,0 +1,139 @@
+package com.example.integrationservice.cache;
+
+import com.example.integrationservice.exception.CustomerNotFoundException;
+import com.example.integrationservice.model.CustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testGet_ServesStaleCopyAndRevalidatesInBackground() throws Exception {
+        // Arrange: every entry is stale at once, but inside the revalidation window
+        CustomerCache cache = new CustomerCache(true, 100, Duration.ZERO, Duration.ofHours(1), Duration.ofHours(1),
+                Duration.ofSeconds(30), meterRegistry);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch revalidated = new CountDownLatch(1);
+        cache.get(1L, id -> customer(id, "v" + upstreamCalls.incrementAndGet()));
+
+        // Act
+        CustomerResponse served = cache.get(1L, id -> {
+            CustomerResponse refreshed = customer(id, "v" + upstreamCalls.incrementAndGet());
+            revalidated.countDown();
+            return refreshed;
+        });
+
+        // Assert
+        assertEquals("v1", served.getFullName(), "the stale copy is returned without waiting");
+        assertTrue(revalidated.await(5, TimeUnit.SECONDS));
+        assertEventually(() -> meterRegistry.find("customer.cache.revalidations").tag("result", "success").counter() != null);
+        assertEquals("v2", cache.get(1L, id -> customer(id, "v3")).getFullName());
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void testGet_FallbackOnlyCopiesCountAsMisses() {
+        // Arrange: past ttl with no revalidation window, kept only for the stale fallback
+        CustomerCache cache = new CustomerCache(true, 100, Duration.ZERO, Duration.ofHours(1), meterRegistry);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        cache.get(1L, id -> customer(id, "v" + upstreamCalls.incrementAndGet()));
+
+        // Act
+        CustomerResponse served = cache.get(1L, id -> customer(id, "v" + upstreamCalls.incrementAndGet()));
+
+        // Assert
+        assertEquals("v2", served.getFullName());
+        assertEquals(0.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testGet_RemembersNotFound() {
+        // Arrange
+        CustomerCache cache = new CustomerCache(true, 100, Duration.ofMinutes(5), Duration.ofMinutes(30),
+                Duration.ofHours(1), Duration.ofSeconds(30), meterRegistry);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertThrows(CustomerNotFoundException.class, () -> cache.get(999L, id -> {
+                upstreamCalls.incrementAndGet();
+                throw notFound();
+            }));
+        }
+        StepVerifier.create(cache.getAsync(999L, id -> Mono.error(notFound())))
+                .expectError(CustomerNotFoundException.class)
+                .verify();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(3.0, meterRegistry.get("customer.cache.negative.hits").counter().count());
+    }
+
+    @Test
+    void testGet_ReplicasShareUpstreamLoadsThroughSharedTier() throws Exception {
+        // Arrange: three replicas, each with its own L1, sharing one L2
+        InMemorySharedCustomerCache shared = new InMemorySharedCustomerCache(new ObjectMapper().findAndRegisterModules(), Duration.ofMinutes(5));
+        List<CustomerCache> replicas = List.of(replica(shared), replica(shared), replica(shared));
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        // Act
+        for (CustomerCache replica : replicas) {
+            StepVerifier.create(replica.getAsync(7L, id -> {
+                        upstreamCalls.incrementAndGet();
+                        return Mono.just(customer(id, "Emily"));
+                    }))
+                    .expectNextMatches(customer -> "Emily".equals(customer.getFullName()))
+                    .verifyComplete();
+            assertEventually(() -> shared.size() == 1);
+        }
+
+        // Assert
+        assertEquals(1, upstreamCalls.get(), "only the first replica should reach the upstream");
+        assertEquals(2.0, meterRegistry.get("customer.cache.shared.gets").tag("result", "hit").counter().count());
+    }
+
+    private CustomerCache replica(SharedCustomerCache shared) {
+        return new CustomerCache(true, 100, Duration.ofMinutes(5), Duration.ZERO, Duration.ofHours(1),
+                Duration.ZERO, shared, Duration.ofSeconds(1), meterRegistry);
+    }
+
+    private static WebClientResponseException notFound() {
+        return WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null);
+    }
+
+    private static CustomerResponse customer(Long id, String fullName) {
+        return CustomerResponse.builder().customerId(id).fullName(fullName).processedAt(LocalDateTime.now()).build();
+    }
+
+    private static void assertEventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 5s");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.integrationservice.client;
+
+import com.example.integrationservice.model.CustomerResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerRequestCoalescerTest {
+
+    private static final int CALLERS = 50;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerRequestCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new CustomerRequestCoalescer(meterRegistry);
+    }
+
+    @Test
+    void testCoalesce_ConcurrentBlockingCallersShareOneUpstreamCall() throws Exception {
+        // Arrange
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CustomerResponse customer = CustomerResponse.builder().customerId(1L).fullName("John").build();
+
+        // Act
+        List<Future<CustomerResponse>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> coalescer.coalesce(1L, () -> {
+                    upstreamCalls.incrementAndGet();
+                    await(release);
+                    return customer;
+                })));
+            }
+            while (meterRegistry.counter("external.api.calls.coalesced", "mode", "blocking").count() < CALLERS - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // Assert
+            for (Future<CustomerResponse> result : results) {
+                assertSame(customer, result.get(5, TimeUnit.SECONDS));
+            }
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testCoalesce_ErrorIsPropagatedToEveryCaller() {
+        // Arrange & Act & Assert
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> coalescer.coalesce(1L, () -> { throw new RuntimeException("boom"); }));
+
+        assertEquals("boom", error.getMessage());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testCoalesceAsync_ConcurrentSubscribersShareOneUpstreamCall() {
+        // Arrange
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.One<CustomerResponse> upstream = Sinks.one();
+        CustomerResponse customer = CustomerResponse.builder().customerId(1L).fullName("John").build();
+
+        // Act
+        Mono<List<CustomerResponse>> all = Flux.range(0, CALLERS)
+                .flatMap(i -> coalescer.coalesceAsync(1L, () -> {
+                    upstreamCalls.incrementAndGet();
+                    return upstream.asMono();
+                }))
+                .collectList()
+                .cache();
+        all.subscribe();
+        upstream.tryEmitValue(customer);
+
+        // Assert
+        List<CustomerResponse> results = all.block(Duration.ofSeconds(5));
+        assertEquals(CALLERS, results.size());
+        assertTrue(results.stream().allMatch(result -> result == customer));
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(CALLERS - 1, meterRegistry.counter("external.api.calls.coalesced", "mode", "async").count());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void testCoalesce_BlockingCallerJoinsPendingAsyncCall() throws Exception {
+        // Arrange
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.One<CustomerResponse> upstream = Sinks.one();
+        CustomerResponse customer = CustomerResponse.builder().customerId(1L).fullName("John").build();
+        Mono<CustomerResponse> async = coalescer.coalesceAsync(1L, () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        }).cache();
+        async.subscribe();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<CustomerResponse> blocking = executor.submit(() -> coalescer.coalesce(1L, () -> {
+                upstreamCalls.incrementAndGet();
+                return CustomerResponse.builder().customerId(1L).build();
+            }));
+            while (meterRegistry.counter("external.api.calls.coalesced", "mode", "blocking").count() < 1) {
+                Thread.sleep(5);
+            }
+            upstream.tryEmitValue(customer);
+
+            // Assert
+            assertSame(customer, blocking.get(5, TimeUnit.SECONDS));
+        }
+        assertSame(customer, async.block(Duration.ofSeconds(5)));
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.integrationservice.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UpstreamRetryPolicyTest {
+
+    private UpstreamRetryPolicy retryPolicy;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        retryPolicy = new UpstreamRetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(50), 0.5,
+                Duration.ofMillis(200), Duration.ofSeconds(1), new SimpleMeterRegistry());
+        attempts = new AtomicInteger();
+    }
+
+    @Test
+    void testRetriesServerErrorsUntilSuccess() {
+        // Arrange
+        Mono<String> attempt = Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(httpError(503))
+                : Mono.just("ok"));
+
+        // Act & Assert
+        StepVerifier.create(retryPolicy.apply(attempt, 1L))
+                .expectNext("ok")
+                .verifyComplete();
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testDoesNotRetryNotFound() {
+        // Arrange
+        Mono<String> attempt = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(httpError(404));
+        });
+
+        // Act & Assert
+        StepVerifier.create(retryPolicy.apply(attempt, 1L))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttemptsWithLastError() {
+        // Arrange
+        Mono<String> attempt = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(httpError(500));
+        });
+
+        // Act & Assert
+        StepVerifier.create(retryPolicy.apply(attempt, 1L))
+                .expectError(WebClientResponseException.InternalServerError.class)
+                .verify();
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testDeadlineCoversAllAttempts() {
+        // Arrange - every attempt hangs past its own timeout, so retries alone would take 3 x 200ms
+        UpstreamRetryPolicy tightDeadline = new UpstreamRetryPolicy(3, Duration.ofMillis(10), Duration.ofMillis(50),
+                0.5, Duration.ofMillis(200), Duration.ofMillis(300), new SimpleMeterRegistry());
+        Mono<String> attempt = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.never();
+        });
+
+        // Act & Assert
+        StepVerifier.create(tightDeadline.apply(attempt, 1L))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+        assertEquals(2, attempts.get());
+    }
+
+    private static WebClientResponseException httpError(int status) {
+        return WebClientResponseException.create(status, "error", null, null, null);
+    }
+}
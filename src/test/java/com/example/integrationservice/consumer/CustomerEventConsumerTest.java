@@ -0,0 +1,142 @@
+package com.example.integrationservice.consumer;
+
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.model.CustomerResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomerEventConsumerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Map<Long, List<Long>> seenByPartition;
+    private CustomerEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        seenByPartition = new ConcurrentHashMap<>();
+        CustomerEventHandler recorder = new CustomerEventHandler() {
+            @Override
+            public String name() {
+                return "recorder";
+            }
+
+            @Override
+            public void handle(List<CustomerResponse> events) {
+                // customerId % 3 encodes the partition in these fixtures
+                long partition = events.get(0).getCustomerId() % 3;
+                seenByPartition.computeIfAbsent(partition, p -> new ArrayList<>())
+                        .addAll(events.stream().map(CustomerResponse::getCustomerId).toList());
+            }
+        };
+        consumer = new CustomerEventConsumer(List.of(recorder), meterRegistry);
+    }
+
+    @Test
+    void testConsume_PreservesOrderWithinEachPartitionAndAcknowledges() {
+        // Arrange
+        List<ConsumerRecord<String, CustomerResponse>> records = new ArrayList<>();
+        for (long id = 0; id < 30; id++) {
+            records.add(record((int) (id % 3), id));
+        }
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // Act
+        consumer.consume(records, acknowledgment);
+
+        // Assert
+        assertEquals(3, seenByPartition.size());
+        assertEquals(List.of(0L, 3L, 6L, 9L, 12L, 15L, 18L, 21L, 24L, 27L), seenByPartition.get(0L));
+        verify(acknowledgment).acknowledge();
+        assertEquals(30.0, meterRegistry.counter("customer.events.consumed").count());
+    }
+
+    @Test
+    void testConsume_HandlerFailureSkipsAcknowledgement() {
+        // Arrange
+        CustomerEventHandler failing = mock(CustomerEventHandler.class);
+        doThrow(new IllegalStateException("projection unavailable")).when(failing).handle(anyList());
+        CustomerEventConsumer failingConsumer = new CustomerEventConsumer(List.of(failing), meterRegistry);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> failingConsumer.consume(List.of(record(0, 1L), record(1, 2L)), acknowledgment));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void testConsume_ProjectionMovesTierAndDropsTombstonedCustomers() {
+        // Arrange
+        LoyaltyTierProjection projection = new LoyaltyTierProjection(meterRegistry);
+        CustomerEventConsumer projectingConsumer = new CustomerEventConsumer(List.of(projection), meterRegistry);
+        List<ConsumerRecord<String, CustomerResponse>> records = List.of(
+                record(0, 1L, "Gold"),
+                record(0, 2L, "Gold"),
+                record(0, 3L, "Silver"),
+                record(0, 1L, "Silver"),
+                tombstone(0, 2L),
+                record(0, 2L, "Bronze"),
+                tombstone(0, 3L));
+
+        // Act
+        projectingConsumer.consume(records, mock(Acknowledgment.class));
+
+        // Assert
+        assertEquals(0, projection.countByTier("Gold"));
+        assertEquals(1, projection.countByTier("Silver"));
+        assertEquals(1, projection.countByTier("Bronze"));
+        assertEquals(1.0, meterRegistry.get("customer.projection.loyalty").tag("tier", "Silver").gauge().value());
+    }
+
+    @Test
+    void testOnPartitionsAssigned_ReplaysTopicAndProjectionStaysIdempotent() {
+        // Arrange
+        LoyaltyTierProjection projection = new LoyaltyTierProjection(meterRegistry);
+        CustomerEventConsumer projectingConsumer = new CustomerEventConsumer(List.of(projection), meterRegistry);
+        List<ConsumerRecord<String, CustomerResponse>> records = List.of(
+                record(0, 1L, "Gold"), record(1, 2L, "Silver"), record(2, 3L, "Silver"));
+        Map<TopicPartition, Long> assignments = Map.of(
+                new TopicPartition(KafkaConfig.CUSTOMER_EVENTS_TOPIC, 0), 42L,
+                new TopicPartition(KafkaConfig.CUSTOMER_EVENTS_TOPIC, 1), 7L);
+        ConsumerSeekCallback callback = mock(ConsumerSeekCallback.class);
+
+        // Act - a restart seeks to the start, so the same events arrive again
+        projectingConsumer.onPartitionsAssigned(assignments, callback);
+        projectingConsumer.consume(records, mock(Acknowledgment.class));
+        projectingConsumer.consume(records, mock(Acknowledgment.class));
+
+        // Assert
+        verify(callback).seekToBeginning(assignments.keySet());
+        assertEquals(1, projection.countByTier("Gold"));
+        assertEquals(2, projection.countByTier("Silver"));
+    }
+
+    private static ConsumerRecord<String, CustomerResponse> record(int partition, long customerId) {
+        return record(partition, customerId, "Gold");
+    }
+
+    private static ConsumerRecord<String, CustomerResponse> record(int partition, long customerId, String tier) {
+        CustomerResponse event = CustomerResponse.builder().customerId(customerId).loyaltyScore(tier).build();
+        return new ConsumerRecord<>(KafkaConfig.CUSTOMER_EVENTS_TOPIC, partition, customerId,
+                String.valueOf(customerId), event);
+    }
+
+    private static ConsumerRecord<String, CustomerResponse> tombstone(int partition, long customerId) {
+        return new ConsumerRecord<>(KafkaConfig.CUSTOMER_EVENTS_TOPIC, partition, customerId,
+                String.valueOf(customerId), null);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.integrationservice.limit;
+
+import com.example.integrationservice.exception.ConcurrencyLimitExceededException;
+import com.example.integrationservice.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testAcquire_RejectsOverLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 2);
+        limiter.acquire(true);
+        limiter.acquire(true);
+
+        // Act
+        ConcurrencyLimitExceededException rejected = assertThrows(ConcurrencyLimitExceededException.class,
+                () -> limiter.acquire(true));
+
+        // Assert
+        assertNull(rejected.getLane());
+        assertEquals(2, limiter.getInflight());
+        assertEquals(1.0, meterRegistry.counter("integration.concurrency.requests", "result", "rejected").count());
+        assertEquals(2.0, meterRegistry.counter("integration.concurrency.requests", "result", "accepted").count());
+    }
+
+    @Test
+    void testExecuteUnsampled_ReleasesWithoutMovingLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 10);
+
+        // Act
+        StepVerifier.create(limiter.executeUnsampled(Mono.error(new TimeoutException())))
+                .verifyError(TimeoutException.class);
+
+        // Assert
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    void testOnSample_GrowsWhileLatencyHolds() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 10);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            limiter.onSample(MILLI, limiter.getLimit());
+        }
+
+        // Assert
+        assertTrue(limiter.getLimit() > 10, "limit should grow, was " + limiter.getLimit());
+    }
+
+    @Test
+    void testOnSample_ShrinksWhenLatencyRises() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 50);
+        limiter.onSample(MILLI, 50);
+        int before = limiter.getLimit();
+
+        // Act
+        limiter.onSample(10 * MILLI, before);
+
+        // Assert
+        assertTrue(limiter.getLimit() < before, "limit should shrink, was " + limiter.getLimit());
+    }
+
+    @Test
+    void testOnSample_IgnoresAppLimitedSamples() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 50);
+
+        // Act
+        limiter.onSample(MILLI, 1);
+        limiter.onSample(10 * MILLI, 1);
+
+        // Assert
+        assertEquals(50, limiter.getLimit());
+    }
+
+    @Test
+    void testExecute_TimeoutCutsLimitAndOtherErrorsDoNot() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 50);
+
+        // Act
+        assertThrows(UpstreamUnavailableException.class, () -> limiter.execute(() -> {
+            throw new UpstreamUnavailableException("circuit open", null);
+        }));
+        int afterUnavailable = limiter.getLimit();
+        assertThrows(RuntimeException.class, () -> limiter.execute(() -> {
+            throw new RuntimeException("Failed to fetch customer data", new TimeoutException());
+        }));
+
+        // Assert
+        assertEquals(50, afterUnavailable);
+        assertEquals(45, limiter.getLimit());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    void testExecuteMono_HoldsPermitUntilTerminatedOrCancelled() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 1);
+        Sinks.One<String> upstream = Sinks.one();
+
+        // Act
+        Mono<String> first = limiter.execute(upstream.asMono());
+
+        // Assert
+        assertEquals(1, limiter.getInflight());
+        assertThrows(ConcurrencyLimitExceededException.class, () -> limiter.execute(Mono.just("second")));
+        StepVerifier.create(first)
+                .then(() -> upstream.tryEmitValue("first"))
+                .expectNext("first")
+                .verifyComplete();
+        assertEquals(0, limiter.getInflight());
+
+        StepVerifier.create(limiter.execute(Mono.never()))
+                .thenCancel()
+                .verify();
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    void testAcquire_DisabledNeverRejects() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(false, 1);
+
+        // Act & Assert
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> limiter.acquire(true));
+        }
+        assertEquals(0, limiter.getInflight());
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(boolean enabled, int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(enabled, initialLimit, 1, 1000, 1.0, 1.5, meterRegistry);
+    }
+}
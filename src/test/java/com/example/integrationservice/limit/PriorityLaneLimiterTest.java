@@ -0,0 +1,92 @@
+package com.example.integrationservice.limit;
+
+import com.example.integrationservice.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityLaneLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(true, 10, 1, 1000, 1.0, 1.5, meterRegistry);
+    }
+
+    @Test
+    void testAcquire_ShedsBulkBeforeInteractive() {
+        // Arrange: bulk may hold 30% of a limit of 10
+        PriorityLaneLimiter lanes = new PriorityLaneLimiter(true, concurrencyLimiter, 0.3, meterRegistry);
+        for (int i = 0; i < 3; i++) {
+            lanes.acquire(PriorityLane.BULK);
+        }
+
+        // Act
+        ConcurrencyLimitExceededException shed = assertThrows(ConcurrencyLimitExceededException.class,
+                () -> lanes.acquire(PriorityLane.BULK));
+        for (int i = 0; i < 7; i++) {
+            lanes.acquire(PriorityLane.INTERACTIVE);
+        }
+
+        // Assert
+        assertEquals(PriorityLane.BULK, shed.getLane());
+        assertEquals(3, lanes.getInflight(PriorityLane.BULK));
+        assertEquals(7, lanes.getInflight(PriorityLane.INTERACTIVE));
+        assertThrows(ConcurrencyLimitExceededException.class, () -> lanes.acquire(PriorityLane.INTERACTIVE));
+        assertEquals(1.0, meterRegistry.counter("integration.concurrency.lane.requests", "lane", "bulk", "result", "rejected").count());
+        assertEquals(0, concurrencyLimiter.getInflight());
+    }
+
+    @Test
+    void testAcquire_BulkBudgetShrinksWithLimit() {
+        // Arrange
+        PriorityLaneLimiter lanes = new PriorityLaneLimiter(true, concurrencyLimiter, 0.3, meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            concurrencyLimiter.onDrop();
+        }
+
+        // Act & Assert: limit 10 -> 5, bulk budget 3 -> 1
+        assertEquals(5, concurrencyLimiter.getLimit());
+        lanes.acquire(PriorityLane.BULK);
+        assertThrows(ConcurrencyLimitExceededException.class, () -> lanes.acquire(PriorityLane.BULK));
+    }
+
+    @Test
+    void testExecuteMono_AcquiresOnSubscribeAndReleasesOnTermination() {
+        // Arrange
+        PriorityLaneLimiter lanes = new PriorityLaneLimiter(true, concurrencyLimiter, 0.1, meterRegistry);
+        Sinks.One<String> upstream = Sinks.one();
+        Mono<String> first = lanes.execute(PriorityLane.BULK, upstream.asMono());
+
+        // Act & Assert
+        assertEquals(0, lanes.getInflight(PriorityLane.BULK));
+        StepVerifier.create(first)
+                .then(() -> StepVerifier.create(lanes.execute(PriorityLane.BULK, Mono.just("second")))
+                        .verifyError(ConcurrencyLimitExceededException.class))
+                .then(() -> upstream.tryEmitValue("first"))
+                .expectNext("first")
+                .verifyComplete();
+        assertEquals(0, lanes.getInflight(PriorityLane.BULK));
+        assertEquals(1, meterRegistry.timer("integration.concurrency.lane.latency", "lane", "bulk").count());
+    }
+
+    @Test
+    void testAcquire_DisabledNeverRejects() {
+        // Arrange
+        PriorityLaneLimiter lanes = new PriorityLaneLimiter(false, concurrencyLimiter, 0.1, meterRegistry);
+
+        // Act & Assert
+        for (int i = 0; i < 20; i++) {
+            assertDoesNotThrow(() -> lanes.execute(PriorityLane.BULK, () -> "ok"));
+        }
+        assertEquals(0, lanes.getInflight());
+    }
+}
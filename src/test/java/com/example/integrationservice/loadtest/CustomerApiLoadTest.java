@@ -0,0 +1,96 @@
+package com.example.integrationservice.loadtest;
+
+import com.example.integrationservice.config.KafkaConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of GET /api/customer/{id} on a single box, with no external dependencies.
+ *
+ * The full application runs against a StubUpstreamServer (instead of dummyjson.com) and an
+ * embedded Kafka broker; LoadGenerator drives the endpoint and prints throughput plus the
+ * HDR latency distribution. Every knob is a system property:
+ *
+ * - loadtest.mode: closed | open (default closed)
+ * - loadtest.concurrency: virtual users in closed-loop mode (default 64)
+ * - loadtest.rate: requests/sec in open-loop mode (default 500)
+ * - loadtest.warmup / loadtest.duration: seconds (default 5 / 30)
+ * - loadtest.ids: customer IDs drawn from 1..n (default 1000)
+ * - loadtest.path: endpoint under test (default /api/customer/{id})
+ * - loadtest.upstream.latency: LatencyProfile spec (default lognormal:40:400)
+ * - loadtest.upstream.error-rate: fraction of upstream 503s (default 0)
+ *
+ * Application settings can be overridden the same way, e.g. -DVIRTUAL_THREADS_ENABLED=true.
+ *
+ * Run with: mvn test -Ploadtest [-Dloadtest.mode=open -Dloadtest.rate=2000]
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CustomerApiLoadTest {
+
+    private static final StubUpstreamServer UPSTREAM;
+    private static final EmbeddedKafkaKraftBroker KAFKA;
+    private static final Path DATA_DIR;
+
+    static {
+        try {
+            UPSTREAM = new StubUpstreamServer(
+                    LatencyProfile.parse(System.getProperty("loadtest.upstream.latency", "lognormal:40:400")),
+                    Double.parseDouble(System.getProperty("loadtest.upstream.error-rate", "0")));
+            DATA_DIR = Files.createTempDirectory("integration-loadtest");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        KAFKA = new EmbeddedKafkaKraftBroker(1, 3, KafkaConfig.CUSTOMER_EVENTS_TOPIC);
+        KAFKA.afterPropertiesSet();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void loadTestProperties(DynamicPropertyRegistry registry) {
+        registry.add("external.api.base-url", UPSTREAM::baseUrl);
+        registry.add("spring.kafka.bootstrap-servers", KAFKA::getBrokersAsString);
+        registry.add("integration.outbox.directory", () -> DATA_DIR.resolve("outbox").toString());
+        registry.add("integration.sync.checkpoint-file", () -> DATA_DIR.resolve("sync-checkpoint").toString());
+        registry.add("integration.sync.resume-on-startup", () -> "false");
+        registry.add("logging.level.com.example.integrationservice", () -> "WARN");
+    }
+
+    @AfterAll
+    static void stopInfrastructure() {
+        UPSTREAM.close();
+        KAFKA.destroy();
+    }
+
+    @Test
+    void loadCustomerEndpoint() {
+        LoadGenerator generator = new LoadGenerator(
+                "http://localhost:" + port + System.getProperty("loadtest.path", "/api/customer/{id}"),
+                Integer.getInteger("loadtest.ids", 1000));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 30));
+
+        LoadGenerator.Result result = "open".equals(System.getProperty("loadtest.mode", "closed"))
+                ? generator.openLoop(Integer.getInteger("loadtest.rate", 500), warmup, duration)
+                : generator.closedLoop(Integer.getInteger("loadtest.concurrency", 64), warmup, duration);
+
+        result.print(System.out);
+        assertTrue(result.requests() > 0, "load generator completed no requests");
+    }
+}
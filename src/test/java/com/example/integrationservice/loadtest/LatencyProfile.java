@@ -0,0 +1,55 @@
+package com.example.integrationservice.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency distribution for the stub upstream.
+ *
+ * Spec strings (milliseconds):
+ * - fixed:50
+ * - uniform:20-80
+ * - lognormal:40:400  (median 40 ms, p99 400 ms - a realistic long tail)
+ */
+@FunctionalInterface
+interface LatencyProfile {
+
+    /** z-score of the 99th percentile of the standard normal distribution */
+    double P99_Z = 2.326;
+
+    long sampleNanos(ThreadLocalRandom random);
+
+    static LatencyProfile fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    static LatencyProfile uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        return random -> random.nextLong(minNanos, maxNanos + 1);
+    }
+
+    static LatencyProfile logNormal(Duration median, Duration p99) {
+        double medianNanos = median.toNanos();
+        double sigma = Math.log((double) p99.toNanos() / medianNanos) / P99_Z;
+        return random -> (long) (medianNanos * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    static LatencyProfile parse(String spec) {
+        String[] parts = spec.split(":");
+        return switch (parts[0]) {
+            case "fixed" -> fixed(millis(parts[1]));
+            case "uniform" -> {
+                String[] range = parts[1].split("-");
+                yield uniform(millis(range[0]), millis(range[1]));
+            }
+            case "lognormal" -> logNormal(millis(parts[1]), millis(parts[2]));
+            default -> throw new IllegalArgumentException("Unknown latency profile: " + spec);
+        };
+    }
+
+    private static Duration millis(String value) {
+        return Duration.ofMillis(Long.parseLong(value.trim()));
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.integrationservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP load generator for GET endpoints keyed by customer ID.
+ *
+ * - Closed loop: a fixed number of virtual users, each sending its next request as soon as
+ *   the previous one completes. Measures capacity at a given concurrency.
+ * - Open loop: requests are issued at a fixed arrival rate regardless of how fast responses
+ *   come back. Latency is measured from each request's intended start time, so queueing
+ *   behind a slow server is counted (no coordinated omission).
+ *
+ * Latencies are recorded in an HdrHistogram; warmup traffic is discarded.
+ */
+final class LoadGenerator {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final HttpClient httpClient;
+    private final String urlTemplate;
+    private final int idRange;
+
+    /**
+     * @param urlTemplate Absolute URL with an {id} placeholder
+     * @param idRange IDs are drawn uniformly from 1..idRange
+     */
+    LoadGenerator(String urlTemplate, int idRange) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.urlTemplate = urlTemplate;
+        this.idRange = idRange;
+    }
+
+    record Result(String mode, long requests, long errors, double seconds, Histogram latency) {
+
+        double throughput() {
+            return requests / seconds;
+        }
+
+        void print(PrintStream out) {
+            out.printf("%s: %,d requests in %.1fs -> %,.0f req/s, %,d errors (%.2f%%)%n",
+                    mode, requests, seconds, throughput(), errors, requests == 0 ? 0 : 100.0 * errors / requests);
+            out.printf("latency ms  p50 %.2f  p90 %.2f  p99 %.2f  p99.9 %.2f  max %.2f%n",
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()));
+            latency.outputPercentileDistribution(out, 1_000_000.0);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    Result closedLoop(int concurrency, Duration warmup, Duration duration) {
+        Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+        LongAdder requests = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        boolean ok = send();
+                        if (now >= measureFrom) {
+                            recorder.recordValue(Math.min(System.nanoTime() - now, MAX_TRACKABLE_NANOS));
+                            requests.increment();
+                            if (!ok) {
+                                errors.increment();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        return new Result("closed-loop x" + concurrency, requests.sum(), errors.sum(),
+                duration.toNanos() / 1e9, recorder.getIntervalHistogram());
+    }
+
+    Result openLoop(int ratePerSecond, Duration warmup, Duration duration) {
+        Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+        LongAdder requests = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (ExecutorService inFlight = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intended = start; intended < end; intended += interval) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long intendedStart = intended;
+                inFlight.submit(() -> {
+                    boolean ok = send();
+                    if (intendedStart >= measureFrom) {
+                        recorder.recordValue(Math.min(System.nanoTime() - intendedStart, MAX_TRACKABLE_NANOS));
+                        requests.increment();
+                        if (!ok) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+        }
+
+        return new Result("open-loop @" + ratePerSecond + "/s", requests.sum(), errors.sum(),
+                duration.toNanos() / 1e9, recorder.getIntervalHistogram());
+    }
+
+    private boolean send() {
+        long id = ThreadLocalRandom.current().nextLong(1, idRange + 1L);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(urlTemplate.replace("{id}", Long.toString(id))))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.integrationservice.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for the dummyjson users API (GET /users/{id}).
+ *
+ * Each request waits for a latency drawn from the configured LatencyProfile, then fails with
+ * 503 at the configured error rate or answers with the recorded user payload for that ID.
+ * Requests run on virtual threads, so simulated latency never exhausts the server.
+ */
+final class StubUpstreamServer implements AutoCloseable {
+
+    private static final String ID_FIELD = "\"id\": 1,";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LatencyProfile latency;
+    private final double errorRate;
+    private final byte[] payloadPrefix;
+    private final byte[] payloadSuffix;
+
+    StubUpstreamServer(LatencyProfile latency, double errorRate) throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+
+        String payload;
+        try (InputStream in = StubUpstreamServer.class.getResourceAsStream("/fixtures/dummyjson-user.json")) {
+            payload = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        int idAt = payload.indexOf(ID_FIELD);
+        this.payloadPrefix = payload.substring(0, idAt).concat("\"id\": ").getBytes(StandardCharsets.UTF_8);
+        this.payloadSuffix = payload.substring(idAt + ID_FIELD.length() - 1).getBytes(StandardCharsets.UTF_8);
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.setExecutor(executor);
+        server.createContext("/users/", this::handle);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/users/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, latency.sampleNanos(random)));
+
+            if (random.nextDouble() < errorRate) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            String id = exchange.getRequestURI().getPath().substring("/users/".length());
+            if (!id.chars().allMatch(Character::isDigit) || id.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] idBytes = id.getBytes(StandardCharsets.US_ASCII);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payloadPrefix.length + idBytes.length + payloadSuffix.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(payloadPrefix);
+                body.write(idBytes);
+                body.write(payloadSuffix);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
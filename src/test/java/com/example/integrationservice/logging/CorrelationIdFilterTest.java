@@ -0,0 +1,40 @@
+package com.example.integrationservice.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    @Test
+    void testDoFilter_UsesCallerCorrelationIdInMdcAndResponse() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customer/1");
+        request.addHeader(CorrelationIdFilter.HEADER, "order-1234");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seenInChain = new AtomicReference<>();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> seenInChain.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        // Assert
+        assertEquals("order-1234", seenInChain.get());
+        assertEquals("order-1234", response.getHeader(CorrelationIdFilter.HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void testCorrelationId_GeneratesIdForMissingOrUnsafeHeader() {
+        // Act & Assert
+        assertFalse(CorrelationIdFilter.correlationId(null).isBlank());
+        assertNotEquals("a\nforged line", CorrelationIdFilter.correlationId("a\nforged line"));
+        assertNotEquals("x".repeat(65), CorrelationIdFilter.correlationId("x".repeat(65)));
+    }
+}
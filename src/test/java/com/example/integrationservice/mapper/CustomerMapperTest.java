@@ -0,0 +1,61 @@
+package com.example.integrationservice.mapper;
+
+import com.example.integrationservice.model.Customer;
+import com.example.integrationservice.model.CustomerResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerMapperTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-01-15T10:15:30.123Z"), ZoneOffset.UTC);
+
+    @Test
+    void testFastPath_ProducesSameFieldsAsStandardMapper() {
+        // Arrange
+        CustomerMapper standard = new CustomerMapper();
+        CustomerMapper fast = new CustomerMapper(true, 16, FIXED_CLOCK);
+        Customer[] customers = {
+                customer("Emily", "Johnson", 28, "Phoenix", "Mississippi"),
+                customer("", "Johnson", 45, null, "Mississippi"),
+                customer("Emily", "", 61, "Phoenix", null),
+                customer(null, null, null, null, null)
+        };
+
+        for (Customer customer : customers) {
+            // Act
+            CustomerResponse expected = standard.toCustomerResponse(customer);
+            CustomerResponse actual = fast.toCustomerResponse(customer);
+
+            // Assert
+            expected.setProcessedAt(actual.getProcessedAt());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void testFastPath_ReusesLocationAndTimestampInstances() {
+        // Arrange
+        CustomerMapper fast = new CustomerMapper(true, 16, FIXED_CLOCK);
+
+        // Act
+        CustomerResponse first = fast.toCustomerResponse(customer("Emily", "Johnson", 28, "Phoenix", "Mississippi"));
+        CustomerResponse second = fast.toCustomerResponse(customer("Emily", "Johnson", 28,
+                new String("Phoenix"), new String("Mississippi")));
+
+        // Assert
+        assertSame(first.getLocation(), second.getLocation());
+        assertSame(first.getProcessedAt(), second.getProcessedAt());
+        assertEquals("Bronze", first.getLoyaltyScore());
+    }
+
+    private static Customer customer(String firstName, String lastName, Integer age, String city, String state) {
+        Customer customer = Customer.builder().id(1L).firstName(firstName).lastName(lastName).age(age).build();
+        customer.setAddress(new Customer.Address(null, city, state, null, null, null, null));
+        return customer;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.integrationservice.mapper;
+
+import com.example.integrationservice.model.Customer;
+import com.example.integrationservice.model.CustomerPage;
+import com.example.integrationservice.model.CustomerResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerProjectionDecoderTest {
+
+    private CustomerMapper customerMapper;
+    private CustomerProjectionDecoder decoder;
+    private byte[] userJson;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        customerMapper = new CustomerMapper();
+        decoder = new CustomerProjectionDecoder(customerMapper);
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/dummyjson-user.json")) {
+            userJson = in.readAllBytes();
+        }
+    }
+
+    @Test
+    void testDecode_MatchesFullObjectGraphMapping() throws Exception {
+        // Arrange
+        Customer customer = new ObjectMapper().readValue(userJson, Customer.class);
+        CustomerResponse expected = customerMapper.toCustomerResponse(customer);
+
+        // Act
+        CustomerResponse projected = decoder.decode(userJson);
+
+        // Assert - company.address.city must not leak into the customer's location
+        expected.setProcessedAt(projected.getProcessedAt());
+        assertEquals(expected, projected);
+        assertEquals("Phoenix, Mississippi", projected.getLocation());
+    }
+
+    @Test
+    void testDecode_MissingNestedObjectsUseMapperDefaults() {
+        // Arrange
+        byte[] json = "{\"id\":7,\"firstName\":\"Ada\",\"age\":null,\"address\":null}".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        CustomerResponse projected = decoder.decode(json);
+
+        // Assert
+        assertEquals(7L, projected.getCustomerId());
+        assertEquals("Ada", projected.getFullName());
+        assertEquals("Unknown", projected.getLocation());
+        assertEquals("N/A", projected.getCompanyName());
+        assertEquals("Bronze", projected.getLoyaltyScore());
+    }
+
+    @Test
+    void testDecodePage_ProjectsEveryUser() {
+        // Arrange
+        String user = new String(userJson, StandardCharsets.UTF_8);
+        byte[] json = ("{\"users\":[" + user + "," + user + "],\"total\":208,\"skip\":100,\"limit\":2}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        CustomerPage page = decoder.decodePage(json);
+
+        // Assert
+        assertEquals(2, page.getCustomers().size());
+        assertEquals(208, page.getTotal());
+        assertEquals(102, page.nextSkip());
+        assertTrue(page.hasNext());
+    }
+}
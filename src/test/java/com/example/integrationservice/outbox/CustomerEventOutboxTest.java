@@ -0,0 +1,84 @@
+package com.example.integrationservice.outbox;
+
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.serialization.CustomerEventDeserializer;
+import com.example.integrationservice.serialization.CustomerEventFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CustomerEventOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppend_StoresWireBytesInConfiguredFormat() throws Exception {
+        // Arrange
+        CustomerEventOutbox outbox = new CustomerEventOutbox(true, directory, DataSize.ofKilobytes(64),
+                CustomerEventFormat.JSON, new SimpleMeterRegistry());
+
+        try {
+            // Act
+            outbox.append(customer(1L), true);
+            List<OutboxLog.Entry> entries = outbox.outboxLog().read(outbox.outboxLog().committed(), 10);
+
+            // Assert
+            assertEquals(1, entries.size());
+            assertEquals('{', (char) entries.get(0).value()[0], "JSON mode must not write Avro to the log");
+            assertEquals("John Doe", new CustomerEventDeserializer().deserialize(null, entries.get(0).value()).getFullName());
+        } finally {
+            outbox.close();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRelay_SendFailingInPlaceStopsTheBatch() throws Exception {
+        // Arrange - the producer gave up after max.block.ms (broker unreachable)
+        CustomerEventOutbox outbox = new CustomerEventOutbox(true, directory, DataSize.ofKilobytes(64),
+                CustomerEventFormat.AVRO, new SimpleMeterRegistry());
+        KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("metadata timeout")));
+        OutboxRelay relay = new OutboxRelay(outbox, kafkaTemplate, 500, 30_000, new SimpleMeterRegistry());
+
+        try {
+            outbox.appendAll(List.of(customer(1L), customer(2L), customer(3L)));
+            OutboxLog.Position committed = outbox.outboxLog().committed();
+
+            // Act
+            relay.relay();
+
+            // Assert
+            verify(kafkaTemplate, times(1)).send(anyString(), anyString(), any(byte[].class));
+            assertEquals(committed, outbox.outboxLog().committed());
+        } finally {
+            outbox.close();
+        }
+    }
+
+    private static CustomerResponse customer(long id) {
+        return CustomerResponse.builder()
+                .customerId(id)
+                .fullName("John Doe")
+                .email("john.doe@example.com")
+                .customerAge(35)
+                .loyaltyScore("Silver")
+                .processedAt(LocalDateTime.now())
+                .status("SUCCESS")
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.integrationservice.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxLogTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppendReadAcrossSegmentRolls() throws Exception {
+        // Arrange
+        try (OutboxLog outboxLog = new OutboxLog(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 50; i++) {
+                outboxLog.append(bytes("k" + i), bytes("value-" + i));
+            }
+
+            // Act
+            List<OutboxLog.Entry> entries = outboxLog.read(outboxLog.committed(), 100);
+
+            // Assert
+            assertEquals(50, entries.size());
+            assertEquals("k0", string(entries.get(0).key()));
+            assertEquals("value-49", string(entries.get(49).value()));
+            assertTrue(entries.get(49).next().segment() > 0, "records should span several segments");
+        }
+    }
+
+    @Test
+    void testTombstoneIsReadBackInOrder() throws Exception {
+        // Arrange
+        try (OutboxLog outboxLog = new OutboxLog(directory, SEGMENT_SIZE)) {
+            outboxLog.append(bytes("k1"), bytes("value-1"));
+            outboxLog.append(bytes("k1"), null);
+
+            // Act
+            List<OutboxLog.Entry> entries = outboxLog.read(outboxLog.committed(), 10);
+
+            // Assert
+            assertEquals(2, entries.size());
+            assertEquals("value-1", string(entries.get(0).value()));
+            assertEquals("k1", string(entries.get(1).key()));
+            assertNull(entries.get(1).value());
+        }
+    }
+
+    @Test
+    void testCommittedPositionSurvivesRestart() throws Exception {
+        // Arrange
+        try (OutboxLog outboxLog = new OutboxLog(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 30; i++) {
+                outboxLog.append(bytes("k" + i), bytes("value-" + i));
+            }
+            List<OutboxLog.Entry> relayed = outboxLog.read(outboxLog.committed(), 20);
+            outboxLog.commit(relayed.get(19).next());
+        }
+
+        // Act
+        try (OutboxLog reopened = new OutboxLog(directory, SEGMENT_SIZE)) {
+            reopened.append(bytes("k30"), bytes("value-30"));
+            List<OutboxLog.Entry> pending = reopened.read(reopened.committed(), 100);
+
+            // Assert
+            assertEquals(11, pending.size());
+            assertEquals("value-20", string(pending.get(0).value()));
+            assertEquals("value-30", string(pending.get(10).value()));
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertFalse(files.anyMatch(path -> path.getFileName().toString().equals(String.format("%020d.log", 0))),
+                    "fully relayed segments should be deleted");
+        }
+    }
+
+    @Test
+    void testConcurrentForcesShareFlushes() throws Exception {
+        // Arrange
+        try (OutboxLog outboxLog = new OutboxLog(directory, 64 * 1024);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<OutboxLog.Position>> appends = new ArrayList<>();
+
+            // Act
+            for (int i = 0; i < 200; i++) {
+                String key = "k" + i;
+                appends.add(executor.submit(() -> {
+                    OutboxLog.Position end = outboxLog.append(bytes(key), bytes("value"));
+                    outboxLog.force(end);
+                    return end;
+                }));
+            }
+
+            // Assert
+            for (Future<OutboxLog.Position> append : appends) {
+                OutboxLog.Position end = append.get(10, TimeUnit.SECONDS);
+                assertTrue(end.isAtOrBefore(outboxLog.durable()), "force must not return before the record is flushed");
+            }
+            assertEquals(outboxLog.head(), outboxLog.durable());
+        }
+    }
+
+    @Test
+    void testTornTailRecordIsDroppedOnRecovery() throws Exception {
+        // Arrange
+        OutboxLog.Position end;
+        try (OutboxLog outboxLog = new OutboxLog(directory, SEGMENT_SIZE)) {
+            outboxLog.append(bytes("k0"), bytes("value-0"));
+            end = outboxLog.append(bytes("k1"), bytes("value-1"));
+        }
+        corruptByteBefore(end);
+
+        // Act
+        try (OutboxLog reopened = new OutboxLog(directory, SEGMENT_SIZE)) {
+            List<OutboxLog.Entry> entries = reopened.read(reopened.committed(), 100);
+
+            // Assert
+            assertEquals(1, entries.size());
+            assertEquals("value-0", string(entries.get(0).value()));
+        }
+    }
+
+    private void corruptByteBefore(OutboxLog.Position position) throws Exception {
+        Path segment = directory.resolve(String.format("%020d.log", position.segment()));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), position.offset() - 1);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.integrationservice.serialization;
+
+import com.example.integrationservice.config.KafkaConfig;
+import com.example.integrationservice.model.CustomerResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerEventSerializationTest {
+
+    private static final String TOPIC = KafkaConfig.CUSTOMER_EVENTS_TOPIC;
+
+    private CustomerEventDeserializer deserializer;
+    private CustomerResponse event;
+
+    @BeforeEach
+    void setUp() {
+        deserializer = new CustomerEventDeserializer();
+        event = CustomerResponse.builder()
+                .customerId(1L)
+                .fullName("John Doe")
+                .email("john.doe@example.com")
+                .phoneNumber("+1-555-0100")
+                .customerAge(35)
+                .location("New York, NY")
+                .companyName("Tech Corp")
+                .jobTitle(null)
+                .loyaltyScore("Silver")
+                .processedAt(LocalDateTime.of(2025, 1, 20, 10, 30, 45, 123_456_000))
+                .status("SUCCESS")
+                .build();
+    }
+
+    @Test
+    void testAvroRoundTrip() {
+        // Act
+        byte[] bytes = new CustomerEventAvroSerializer().serialize(TOPIC, event);
+        CustomerResponse decoded = deserializer.deserialize(TOPIC, bytes);
+
+        // Assert
+        assertEquals(CustomerEventAvroSerializer.MAGIC_BYTE, bytes[0]);
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void testJsonFallbackIsStillReadable() {
+        // Arrange
+        try (JsonSerializer<CustomerResponse> jsonSerializer = new JsonSerializer<CustomerResponse>().noTypeInfo()) {
+            byte[] bytes = jsonSerializer.serialize(TOPIC, event);
+
+            // Act
+            CustomerResponse decoded = deserializer.deserialize(TOPIC, bytes);
+
+            // Assert
+            assertEquals(event, decoded);
+        }
+    }
+
+    @Test
+    void testAvroIsSmallerThanJson() {
+        // Arrange
+        try (JsonSerializer<CustomerResponse> jsonSerializer = new JsonSerializer<CustomerResponse>().noTypeInfo()) {
+
+            // Act
+            int avroSize = new CustomerEventAvroSerializer().serialize(TOPIC, event).length;
+            int jsonSize = jsonSerializer.serialize(TOPIC, event).length;
+
+            // Assert
+            assertTrue(avroSize < jsonSize / 2, "avro=" + avroSize + " json=" + jsonSize);
+        }
+    }
+}
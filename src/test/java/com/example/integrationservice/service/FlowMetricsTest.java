@@ -0,0 +1,55 @@
+package com.example.integrationservice.service;
+
+import com.example.integrationservice.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FlowMetrics flowMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flowMetrics = new FlowMetrics(meterRegistry);
+    }
+
+    @Test
+    void testTimeStep_TagsOutcomeOfBlockingStep() {
+        // Act
+        flowMetrics.timeStep(FlowMetrics.STEP_PUBLISH, () -> "ok");
+        assertThrows(WebClientResponseException.class, () -> flowMetrics.timeStep(FlowMetrics.STEP_FETCH, () -> {
+            throw WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found", null, null, null);
+        }));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("integration.flow.step")
+                .tags("step", "publish", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("integration.flow.step")
+                .tags("step", "fetch", "outcome", "not_found").timer().count());
+    }
+
+    @Test
+    void testTimeFlow_RecordsReactiveFailureOnce() {
+        // Arrange
+        Mono<String> flow = Mono.error(new RuntimeException("wrapped",
+                new UpstreamUnavailableException("External API is temporarily unavailable", null)));
+
+        // Act
+        StepVerifier.create(flowMetrics.timeFlow(FlowMetrics.MODE_REACTIVE, flow))
+                .expectError()
+                .verify();
+
+        // Assert
+        assertEquals(1, meterRegistry.get("integration.flow")
+                .tags("mode", "reactive", "outcome", "upstream_unavailable").timer().count());
+    }
+}
@@ -1,19 +1,40 @@
 package com.example.integrationservice.service;
 
+import com.example.integrationservice.cache.CustomerCache;
 import com.example.integrationservice.client.ExternalApiClient;
+import com.example.integrationservice.exception.ConcurrencyLimitExceededException;
+import com.example.integrationservice.limit.AdaptiveConcurrencyLimiter;
+import com.example.integrationservice.limit.PriorityLane;
+import com.example.integrationservice.limit.PriorityLaneLimiter;
+import com.example.integrationservice.mapper.CustomerMapper;
+import com.example.integrationservice.model.BatchCustomerResult;
 import com.example.integrationservice.model.Customer;
 import com.example.integrationservice.model.CustomerResponse;
 import com.example.integrationservice.producer.CustomerEventProducer;
+import com.example.integrationservice.store.CustomerStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +46,23 @@ class IntegrationServiceTest {
     @Mock
     private CustomerEventProducer customerEventProducer;
 
+    // Builds the projected responses the client returns, so the mapping rules are still checked
+    private final CustomerMapper customerMapper = new CustomerMapper();
+
+    @Spy
+    private CustomerCache customerCache = new CustomerCache(true, 100, Duration.ofMinutes(5), Duration.ofHours(1), new SimpleMeterRegistry());
+
+    @Mock
+    private CustomerStore customerStore;
+
+    @Spy
+    private FlowMetrics flowMetrics = new FlowMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private PriorityLaneLimiter priorityLaneLimiter = new PriorityLaneLimiter(true,
+            new AdaptiveConcurrencyLimiter(true, 10, 1, 1000, 0.2, 1.5, new SimpleMeterRegistry()),
+            0.3, new SimpleMeterRegistry());
+
     @InjectMocks
     private IntegrationService integrationService;
 
@@ -54,7 +92,7 @@ class IntegrationServiceTest {
     @Test
     void testProcessCustomer_Success() {
         // Arrange
-        when(externalApiClient.getCustomerById(anyLong())).thenReturn(mockCustomer);
+        when(externalApiClient.getCustomerById(anyLong())).thenReturn(customerMapper.toCustomerResponse(mockCustomer));
         doNothing().when(customerEventProducer).publishCustomerEvent(any(CustomerResponse.class));
 
         // Act
@@ -92,11 +130,46 @@ class IntegrationServiceTest {
         verify(customerEventProducer, never()).publishCustomerEvent(any());
     }
 
+    @Test
+    void testProcessCustomer_ServedFromStoreWithoutUpstreamOrPublish() {
+        // Arrange
+        CustomerResponse stored = CustomerResponse.builder().customerId(1L).fullName("John Doe").build();
+        when(customerStore.find(1L)).thenReturn(Optional.of(stored));
+
+        // Act
+        CustomerResponse response = integrationService.processCustomer(1L);
+        CustomerResponse asyncResponse = integrationService.processCustomerAsync(1L).block();
+
+        // Assert
+        assertSame(stored, response);
+        assertSame(stored, asyncResponse);
+        verifyNoInteractions(externalApiClient, customerEventProducer);
+    }
+
+    @Test
+    void testProcessCustomer_CacheHitTakesNoLanePermit() {
+        // Arrange - load once, then every upstream call is shed
+        when(externalApiClient.getCustomerById(1L)).thenReturn(customerMapper.toCustomerResponse(mockCustomer));
+        integrationService.processCustomer(1L, PriorityLane.BULK);
+        doThrow(new ConcurrencyLimitExceededException("bulk lane full", PriorityLane.BULK))
+                .when(priorityLaneLimiter).execute(any(PriorityLane.class), ArgumentMatchers.<Supplier<CustomerResponse>>any());
+
+        // Act
+        CustomerResponse cached = integrationService.processCustomer(1L, PriorityLane.BULK);
+        ConcurrencyLimitExceededException shed = assertThrows(ConcurrencyLimitExceededException.class,
+                () -> integrationService.processCustomer(2L, PriorityLane.BULK));
+
+        // Assert
+        assertEquals(1L, cached.getCustomerId());
+        assertEquals(PriorityLane.BULK, shed.getLane());
+        verify(externalApiClient, times(1)).getCustomerById(anyLong());
+    }
+
     @Test
     void testLoyaltyScoreCalculation_Bronze() {
         // Arrange
         mockCustomer.setAge(20);
-        when(externalApiClient.getCustomerById(anyLong())).thenReturn(mockCustomer);
+        when(externalApiClient.getCustomerById(anyLong())).thenReturn(customerMapper.toCustomerResponse(mockCustomer));
 
         // Act
         CustomerResponse response = integrationService.processCustomer(1L);
@@ -105,11 +178,24 @@ class IntegrationServiceTest {
         assertEquals("Bronze", response.getLoyaltyScore());
     }
 
+    @Test
+    void testLoyaltyScoreCalculation_SilverUpToFifty() {
+        // Arrange - Gold starts above 50
+        mockCustomer.setAge(50);
+        when(externalApiClient.getCustomerById(anyLong())).thenReturn(customerMapper.toCustomerResponse(mockCustomer));
+
+        // Act
+        CustomerResponse response = integrationService.processCustomer(1L);
+
+        // Assert
+        assertEquals("Silver", response.getLoyaltyScore());
+    }
+
     @Test
     void testLoyaltyScoreCalculation_Gold() {
         // Arrange
-        mockCustomer.setAge(50);
-        when(externalApiClient.getCustomerById(anyLong())).thenReturn(mockCustomer);
+        mockCustomer.setAge(65);
+        when(externalApiClient.getCustomerById(anyLong())).thenReturn(customerMapper.toCustomerResponse(mockCustomer));
 
         // Act
         CustomerResponse response = integrationService.processCustomer(1L);
@@ -119,15 +205,108 @@ class IntegrationServiceTest {
     }
 
     @Test
-    void testLoyaltyScoreCalculation_Platinum() {
+    void testProcessCustomerAsync_Success() {
         // Arrange
-        mockCustomer.setAge(65);
-        when(externalApiClient.getCustomerById(anyLong())).thenReturn(mockCustomer);
+        when(externalApiClient.getCustomerByIdAsync(anyLong())).thenReturn(Mono.just(customerMapper.toCustomerResponse(mockCustomer)));
+        when(customerEventProducer.publishCustomerEventAsync(any(CustomerResponse.class)))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(integrationService.processCustomerAsync(1L))
+                .assertNext(response -> {
+                    assertEquals(1L, response.getCustomerId());
+                    assertEquals("John Doe", response.getFullName());
+                    assertEquals("SUCCESS", response.getStatus());
+                })
+                .verifyComplete();
+
+        verify(externalApiClient, never()).getCustomerById(anyLong());
+        verify(customerEventProducer, times(1)).publishCustomerEventAsync(any(CustomerResponse.class));
+    }
+
+    @Test
+    void testProcessCustomerAsync_ExternalApiFailure() {
+        // Arrange
+        when(externalApiClient.getCustomerByIdAsync(anyLong()))
+                .thenReturn(Mono.error(new RuntimeException("External API error")));
+
+        // Act & Assert
+        StepVerifier.create(integrationService.processCustomerAsync(1L))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        verify(customerEventProducer, never()).publishCustomerEventAsync(any());
+    }
+
+    @Test
+    void testProcessCustomers_PreservesOrderWithPerItemStatus() {
+        // Arrange
+        Customer second = new Customer();
+        second.setId(2L);
+        second.setFirstName("Jane");
+        second.setLastName("Roe");
+        when(externalApiClient.getCustomerByIdAsync(1L)).thenReturn(Mono.just(customerMapper.toCustomerResponse(mockCustomer)));
+        when(externalApiClient.getCustomerByIdAsync(2L)).thenReturn(Mono.just(customerMapper.toCustomerResponse(second)));
+        when(externalApiClient.getCustomerByIdAsync(3L))
+                .thenReturn(Mono.error(new RuntimeException("External API error")));
+        when(customerEventProducer.publishCustomerEvents(anyList())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(integrationService.processCustomers(List.of(3L, 1L, 2L)))
+                .assertNext(response -> {
+                    assertEquals(3, response.getRequested());
+                    assertEquals(2, response.getSucceeded());
+                    assertEquals(1, response.getFailed());
+                    assertEquals(List.of(3L, 1L, 2L), response.getResults().stream()
+                            .map(BatchCustomerResult::getCustomerId).toList());
+                    assertEquals(BatchCustomerResult.STATUS_FAILED, response.getResults().get(0).getStatus());
+                    assertEquals("John Doe", response.getResults().get(1).getCustomer().getFullName());
+                })
+                .verifyComplete();
+
+        verify(customerEventProducer, times(1)).publishCustomerEvents(argThat(events -> events.size() == 2));
+        verify(customerEventProducer, never()).publishCustomerEvent(any());
+    }
+
+    @Test
+    void testProcessCustomers_StaysWithinBulkBudgetOnIdleService() {
+        // Arrange - 20 cache misses against a bulk budget of 3 (limit 10, share 0.3)
+        List<Long> ids = LongStream.rangeClosed(1, 20).boxed().toList();
+        when(externalApiClient.getCustomerByIdAsync(anyLong())).thenAnswer(invocation -> {
+            Customer customer = new Customer();
+            customer.setId(invocation.getArgument(0));
+            return Mono.just(customerMapper.toCustomerResponse(customer)).delayElement(Duration.ofMillis(20));
+        });
+        when(customerEventProducer.publishCustomerEvents(anyList())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(integrationService.processCustomers(ids))
+                .assertNext(response -> {
+                    assertEquals(20, response.getSucceeded());
+                    assertEquals(0, response.getFailed());
+                })
+                .verifyComplete();
+
+        assertEquals(0, priorityLaneLimiter.getInflight(PriorityLane.BULK));
+    }
+
+    @Test
+    void testProcessCustomers_RejectsEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () -> integrationService.processCustomers(List.of()));
+    }
+
+    @Test
+    void testProcessCustomer_CacheHitSkipsExternalApi() {
+        // Arrange
+        when(externalApiClient.getCustomerById(anyLong())).thenReturn(customerMapper.toCustomerResponse(mockCustomer));
 
         // Act
+        integrationService.processCustomer(1L);
         CustomerResponse response = integrationService.processCustomer(1L);
 
         // Assert
-        assertEquals("Platinum", response.getLoyaltyScore());
+        assertEquals("John Doe", response.getFullName());
+        verify(externalApiClient, times(1)).getCustomerById(1L);
+        verify(customerEventProducer, times(2)).publishCustomerEvent(any(CustomerResponse.class));
     }
 }
@@ -0,0 +1,113 @@
+package com.example.integrationservice.store;
+
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.serialization.CustomerEventAvroSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerStoreTest {
+
+    private static final String TOPIC = "customer-events";
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerStore store;
+    private CustomerEventAvroSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new CustomerStore(true, directory.resolve("customers.dat"), DataSize.ofKilobytes(4), 16,
+                Duration.ofMinutes(5), meterRegistry);
+        serializer = new CustomerEventAvroSerializer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void testFind_ServesLatestEventOnceReady() {
+        // Arrange
+        store.apply(1L, serializer.serialize(TOPIC, customer(1L, "John Doe")));
+        store.apply(1L, serializer.serialize(TOPIC, customer(1L, "John Smith")));
+        assertTrue(store.find(1L).isEmpty(), "nothing is served before the replay has caught up");
+
+        // Act
+        store.markReady();
+
+        // Assert
+        assertEquals("John Smith", store.find(1L).orElseThrow().getFullName());
+        assertTrue(store.find(2L).isEmpty());
+        assertEquals(1.0, meterRegistry.get("customer.store.lookups").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("customer.store.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void testFind_SkipsEventsOlderThanMaxAge() {
+        // Arrange
+        CustomerResponse old = customer(1L, "John Doe");
+        old.setProcessedAt(LocalDateTime.now().minusHours(1));
+        store.apply(1L, serializer.serialize(TOPIC, old));
+        store.markReady();
+
+        // Act & Assert
+        assertTrue(store.find(1L).isEmpty(), "an hour-old event must go back through the cache and upstream");
+        assertEquals(1.0, meterRegistry.get("customer.store.lookups").tag("result", "expired").counter().count());
+    }
+
+    @Test
+    void testApply_TombstoneRemovesCustomer() {
+        // Arrange
+        store.apply(1L, serializer.serialize(TOPIC, customer(1L, "John Doe")));
+        store.markReady();
+
+        // Act
+        store.apply(1L, null);
+
+        // Assert
+        assertTrue(store.find(1L).isEmpty());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void testApply_ManyCustomersAcrossSegments() {
+        // Arrange
+        for (long id = 0; id < 500; id++) {
+            store.apply(id, serializer.serialize(TOPIC, customer(id, "Customer " + id)));
+        }
+
+        // Act
+        store.markReady();
+
+        // Assert
+        assertEquals(500, store.size());
+        assertEquals("Customer 0", store.find(0L).orElseThrow().getFullName());
+        assertEquals("Customer 499", store.find(499L).orElseThrow().getFullName());
+    }
+
+    private static CustomerResponse customer(long id, String fullName) {
+        return CustomerResponse.builder()
+                .customerId(id)
+                .fullName(fullName)
+                .email("customer" + id + "@example.com")
+                .customerAge(35)
+                .loyaltyScore("Silver")
+                .processedAt(LocalDateTime.now())
+                .status("SUCCESS")
+                .build();
+    }
+}
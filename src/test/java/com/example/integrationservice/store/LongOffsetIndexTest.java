@@ -0,0 +1,52 @@
+package com.example.integrationservice.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongOffsetIndexTest {
+
+    @Test
+    void testPutGetRemoveAcrossResizes() {
+        // Arrange
+        LongOffsetIndex index = new LongOffsetIndex(16);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // Act
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(20_000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(key) != null, index.remove(key));
+            } else {
+                index.put(key, i);
+                expected.put(key, (long) i);
+            }
+        }
+
+        // Assert
+        assertEquals(expected.size(), index.size());
+        for (long key = 0; key < 20_000; key++) {
+            assertEquals(expected.getOrDefault(key, LongOffsetIndex.ABSENT), index.get(key), "key " + key);
+        }
+    }
+
+    @Test
+    void testOffsetZeroAndNegativeKeysAreStored() {
+        // Arrange
+        LongOffsetIndex index = new LongOffsetIndex(4);
+
+        // Act
+        index.put(-7L, 0L);
+        index.put(Long.MAX_VALUE, 99L);
+
+        // Assert
+        assertEquals(0L, index.get(-7L));
+        assertEquals(99L, index.get(Long.MAX_VALUE));
+        assertEquals(LongOffsetIndex.ABSENT, index.get(0L));
+    }
+}
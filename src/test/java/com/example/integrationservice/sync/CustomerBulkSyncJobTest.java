@@ -0,0 +1,201 @@
+package com.example.integrationservice.sync;
+
+import com.example.integrationservice.client.ExternalApiClient;
+import com.example.integrationservice.limit.AdaptiveConcurrencyLimiter;
+import com.example.integrationservice.limit.PriorityLane;
+import com.example.integrationservice.limit.PriorityLaneLimiter;
+import com.example.integrationservice.model.BulkSyncStatus;
+import com.example.integrationservice.model.CustomerPage;
+import com.example.integrationservice.model.CustomerResponse;
+import com.example.integrationservice.producer.CustomerEventProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CustomerBulkSyncJobTest {
+
+    private static final int PAGE_SIZE = 2;
+    private static final int TOTAL = 5;
+
+    @TempDir
+    Path tempDir;
+
+    private ExternalApiClient externalApiClient;
+    private CustomerEventProducer customerEventProducer;
+    private PriorityLaneLimiter priorityLaneLimiter;
+    private Path checkpointFile;
+    private CustomerBulkSyncJob job;
+
+    @BeforeEach
+    void setUp() {
+        externalApiClient = mock(ExternalApiClient.class);
+        customerEventProducer = mock(CustomerEventProducer.class);
+        // Limit 10 with a bulk share of 0.1: one bulk upstream call at a time
+        priorityLaneLimiter = new PriorityLaneLimiter(true,
+                new AdaptiveConcurrencyLimiter(true, 10, 10, 10, 0.2, 1.5, new SimpleMeterRegistry()),
+                0.1, new SimpleMeterRegistry());
+        checkpointFile = tempDir.resolve("checkpoint");
+        job = new CustomerBulkSyncJob(externalApiClient, customerEventProducer, priorityLaneLimiter,
+                checkpointFile, PAGE_SIZE, false, new SimpleMeterRegistry());
+
+        when(externalApiClient.getCustomerPage(anyInt(), eq(PAGE_SIZE)))
+                .thenAnswer(invocation -> Mono.just(page(invocation.getArgument(0))));
+    }
+
+    @Test
+    void testStart_PublishesEveryPageAndClearsCheckpoint() {
+        // Arrange
+        when(customerEventProducer.publishCustomerEvents(anyList())).thenReturn(Mono.empty());
+
+        // Act
+        BulkSyncStatus status = job.start();
+
+        // Assert
+        assertEquals(BulkSyncStatus.STATE_COMPLETED, status.getState());
+        assertEquals(TOTAL, status.getSynced());
+        verify(customerEventProducer, times(3)).publishCustomerEvents(anyList());
+        assertFalse(Files.exists(checkpointFile));
+    }
+
+    @Test
+    void testStart_ResumesFromCheckpointAfterFailure() {
+        // Arrange - second page fails to publish
+        when(customerEventProducer.publishCustomerEvents(anyList()))
+                .thenReturn(Mono.empty())
+                .thenReturn(Mono.error(new RuntimeException("broker down")))
+                .thenReturn(Mono.empty());
+
+        // Act
+        BulkSyncStatus failed = job.start();
+        BulkSyncStatus resumed = job.start();
+
+        // Assert
+        assertEquals(BulkSyncStatus.STATE_FAILED, failed.getState());
+        assertEquals(2, failed.getNextSkip());
+        assertEquals(BulkSyncStatus.STATE_COMPLETED, resumed.getState());
+        assertEquals(2, resumed.getResumedFrom());
+        assertEquals(TOTAL - 2, resumed.getSynced());
+        verify(externalApiClient, times(2)).getCustomerPage(2, PAGE_SIZE);
+    }
+
+    @Test
+    void testResumeInterruptedSync_RestartedJobContinuesFromSavedCheckpoint() throws Exception {
+        // Arrange - a previous process published the first two pages, then died
+        Files.writeString(checkpointFile, "4");
+        when(customerEventProducer.publishCustomerEvents(anyList())).thenReturn(Mono.empty());
+        CustomerBulkSyncJob restarted = new CustomerBulkSyncJob(externalApiClient, customerEventProducer, priorityLaneLimiter,
+                checkpointFile, PAGE_SIZE, true, new SimpleMeterRegistry());
+
+        // Act
+        restarted.resumeInterruptedSync();
+
+        // Assert
+        BulkSyncStatus status = restarted.status();
+        assertEquals(BulkSyncStatus.STATE_COMPLETED, status.getState());
+        assertEquals(4, status.getResumedFrom());
+        assertEquals(TOTAL - 4, status.getSynced());
+        verify(externalApiClient, never()).getCustomerPage(0, PAGE_SIZE);
+        verify(externalApiClient, never()).getCustomerPage(2, PAGE_SIZE);
+        verify(externalApiClient).getCustomerPage(4, PAGE_SIZE);
+        assertFalse(Files.exists(checkpointFile));
+    }
+
+    @Test
+    void testStart_UpstreamFailureKeepsCheckpointAtLastPublishedPage() throws Exception {
+        // Arrange - fetching the second page fails
+        when(customerEventProducer.publishCustomerEvents(anyList())).thenReturn(Mono.empty());
+        when(externalApiClient.getCustomerPage(2, PAGE_SIZE))
+                .thenReturn(Mono.error(new RuntimeException("Failed to fetch customer page")));
+
+        // Act
+        BulkSyncStatus failed = job.start();
+
+        // Assert
+        assertEquals(BulkSyncStatus.STATE_FAILED, failed.getState());
+        assertEquals(2, failed.getSynced());
+        assertEquals("2", Files.readString(checkpointFile));
+        verify(externalApiClient, never()).getCustomerPage(4, PAGE_SIZE);
+    }
+
+    @Test
+    void testStart_PageShedByFullBulkLaneFailsResumably() {
+        // Arrange - another bulk caller holds the only bulk permit
+        Disposable bulkCall = priorityLaneLimiter.execute(PriorityLane.BULK, Mono.never()).subscribe();
+
+        // Act
+        BulkSyncStatus shed = job.start();
+        bulkCall.dispose();
+        when(customerEventProducer.publishCustomerEvents(anyList())).thenReturn(Mono.empty());
+        BulkSyncStatus resumed = job.start();
+
+        // Assert
+        assertEquals(BulkSyncStatus.STATE_FAILED, shed.getState());
+        assertTrue(shed.getError().contains("bulk"));
+        assertEquals(BulkSyncStatus.STATE_COMPLETED, resumed.getState());
+        assertEquals(TOTAL, resumed.getSynced());
+        assertEquals(0, priorityLaneLimiter.getInflight(PriorityLane.BULK));
+    }
+
+    @Test
+    void testPages_StopsAtEmptyPage() {
+        // Arrange - upstream reports more customers than it returns
+        when(externalApiClient.getCustomerPage(anyInt(), eq(PAGE_SIZE)))
+                .thenAnswer(invocation -> {
+                    int skip = invocation.getArgument(0);
+                    return Mono.just(page(skip, customers(skip, TOTAL), TOTAL + 10));
+                });
+
+        // Act & Assert
+        StepVerifier.create(job.pages(0))
+                .expectNextMatches(page -> page.getSkip() == 0)
+                .expectNextMatches(page -> page.getSkip() == 2)
+                .expectNextMatches(page -> page.getSkip() == 4 && page.hasNext())
+                .expectNextMatches(page -> page.getSkip() == TOTAL && page.getCustomers().isEmpty() && !page.hasNext())
+                .verifyComplete();
+        verify(externalApiClient, never()).getCustomerPage(TOTAL + 1, PAGE_SIZE);
+    }
+
+    @Test
+    void testPages_StopsWhenFullLastPageReachesTotal() {
+        // Arrange - total is an exact multiple of the page size
+        when(externalApiClient.getCustomerPage(anyInt(), eq(PAGE_SIZE)))
+                .thenAnswer(invocation -> {
+                    int skip = invocation.getArgument(0);
+                    return Mono.just(page(skip, customers(skip, 4), 4));
+                });
+
+        // Act & Assert
+        StepVerifier.create(job.pages(0))
+                .expectNextCount(1)
+                .expectNextMatches(page -> page.getCustomers().size() == PAGE_SIZE && !page.hasNext())
+                .verifyComplete();
+        verify(externalApiClient, never()).getCustomerPage(4, PAGE_SIZE);
+    }
+
+    private static CustomerPage page(int skip) {
+        return page(skip, customers(skip, TOTAL), TOTAL);
+    }
+
+    private static CustomerPage page(int skip, List<CustomerResponse> customers, int total) {
+        return CustomerPage.builder().customers(customers).total(total).skip(skip).limit(PAGE_SIZE).build();
+    }
+
+    private static List<CustomerResponse> customers(int skip, int total) {
+        return LongStream.range(skip, Math.min(skip + PAGE_SIZE, total))
+                .mapToObj(id -> CustomerResponse.builder().customerId(id).fullName("Emily Johnson").build())
+                .toList();
+    }
+}